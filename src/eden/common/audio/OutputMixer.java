@@ -14,8 +14,13 @@ import javax.sound.sampled.SourceDataLine;
  * This implementation is designed for signed PCM streams. Later versions of
  * this class may include support for unsigned streams.
  *
+ * Once told the media time of what it is about to mix, it keeps a master clock
+ * of the media time being heard, derived from the frame position of its
+ * {@code SourceDataLine}, which counts only frames actually rendered. Frames
+ * that are flushed before being heard are not counted.
+ *
  * @author Brendon
- * @version u0r2, 11/06/2021.
+ * @version u0r7, 10/17/2026.
  */
 public class OutputMixer implements Runnable {
 
@@ -54,6 +59,16 @@ public class OutputMixer implements Runnable {
   private short solo;
   /** Indicates whether the operations of this OutputMixer are paused */
   private boolean hold;
+  /** Media time in seconds at the end of the audio data written */
+  private volatile double writtenTime;
+  /** Line frame position at the end of the audio data written */
+  private volatile long writtenFrames;
+  /** Media time in seconds of the next audio data to be written, or NaN */
+  private volatile double nextTime;
+  /** Indicates whether the SourceDataLine was flushed outside a hold */
+  private volatile boolean flushed;
+  /** Indicates whether the master clock has been set */
+  private volatile boolean clock;
   /**
    * Indicates whether the SourceDataLine was thrown a LineUnavailableException,
    * preventing further operations.
@@ -127,6 +142,11 @@ public class OutputMixer implements Runnable {
     this.bufferMixd = makeZeroBytes(bufferSize);
     this.sourcesIndex = 0;
     this.hold = true;
+    this.writtenTime = 0;
+    this.writtenFrames = 0;
+    this.nextTime = Double.NaN;
+    this.flushed = false;
+    this.clock = false;
   }
 
   /**
@@ -162,7 +182,12 @@ public class OutputMixer implements Runnable {
       }
       manipulate();
       checkLine();
+      trackClock();
       this.line.write(this.bufferMixd, 0, this.bufferMixd.length);
+      this.writtenFrames += this.bufferMixd.length / this.format.getFrameSize();
+      this.writtenTime +=
+        (double) this.bufferMixd.length /
+        (this.format.getFrameSize() * this.format.getFrameRate());
       this.manipulator.zero(this.bufferMixd);
     }
     this.line.stop();
@@ -416,13 +441,49 @@ public class OutputMixer implements Runnable {
     return this.line.available();
   }
 
+  /**
+   * Returns the master clock of this {@code OutputMixer}, which is the media
+   * time in seconds of the audio being heard, or of the next audio to be mixed
+   * if none is
+   */
+  public double getClock() {
+    double next = this.nextTime;
+    if (!Double.isNaN(next)) {
+      return next;
+    } else if (this.line == null) {
+      return this.writtenTime;
+    }
+    long queued = this.writtenFrames - this.line.getLongFramePosition();
+    return (
+      this.writtenTime -
+      Math.max(queued, 0) / (double) this.format.getFrameRate()
+    );
+  }
+
+  /**
+   * Sets the media time in seconds of the next audio data to be mixed by this
+   * {@code OutputMixer}. It is to be called after its {@code OutputSources}
+   * are moved there while it is held.
+   */
+  public void setClock(double seconds) {
+    this.nextTime = seconds;
+    this.clock = true;
+  }
+
+  /** Returns whether the master clock of this {@code OutputMixer} is set */
+  public boolean hasClock() {
+    return this.clock && !this.dead;
+  }
+
   public void setMuted(boolean muted) {
     this.line.flush();
+    this.flushed = true;
     this.getDspData().setMuted(muted);
   }
 
   public boolean toggleMuted() {
     this.line.flush();
+    this.flushed = true;
     return this.getDspData().toggleMuted();
   }
 
@@ -492,6 +553,7 @@ public class OutputMixer implements Runnable {
   private synchronized void checkHold() {
     while (this.hold) {
       this.line.flush();
+      this.flushed = true;
       try {
         wait();
       } catch (InterruptedException exception) {
@@ -500,6 +562,22 @@ public class OutputMixer implements Runnable {
     }
   }
 
+  /**
+   * Realigns the master clock of this OutputMixer before audio data are
+   * written, to a newly set media time, or past flushed audio data
+   */
+  private void trackClock() {
+    if (this.flushed) {
+      this.flushed = false;
+      this.writtenFrames = this.line.getLongFramePosition();
+    }
+    double next = this.nextTime;
+    if (!Double.isNaN(next)) {
+      this.writtenTime = next;
+      this.nextTime = Double.NaN;
+    }
+  }
+
   /**
    * Checks whether the SourceDataLine of this OutputMixer is starved for
    * writing. Using this method should provide similarity of results on
@@ -25,8 +25,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * {@code this.counter.set(((this.counter.get() + 1) % this.fireRate));}
  *
+ * Subclasses that run on their own {@code Thread} may instead schedule fires
+ * against {@code System.nanoTime()} deadlines, each computed from an origin
+ * rather than from the one before, so that rounding never accumulates. Those
+ * that share a {@code SyncroScheduler} are fired on its {@code Thread}
+ * instead, in phase with each other.
+ *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  */
 public abstract class EDENTimer {
 
@@ -94,6 +100,37 @@ public abstract class EDENTimer {
   /** Returns whether this {@code EDENTimer} is running */
   public abstract boolean isRunning();
 
+  /**
+   * Returns the {@code System.nanoTime()} at which the given number of fires
+   * after the given origin is due, which is exact to the nanosecond however
+   * many fires there are
+   */
+  protected long getDeadline(long origin, long fires) {
+    return origin + fires * 1000000000L / this.fireRate;
+  }
+
+  /** Returns the interval in nanoseconds between fires, rounded down */
+  protected long getPeriod() {
+    return 1000000000L / this.fireRate;
+  }
+
+  /**
+   * Fires this {@code EDENTimer} at a deadline kept by a {@code
+   * SyncroScheduler}. By default, this calls the {@code tick} method.
+   */
+  protected void fireScheduled() {
+    tick();
+  }
+
+  /**
+   * Returns whether the given number of fires missed by overrunning past their
+   * deadlines are to be made up back to back rather than skipped. By default,
+   * they are skipped.
+   */
+  protected boolean makeUp(long missed) {
+    return false;
+  }
+
   /** Calculates the numbers necessary to achieve an accurate timing */
   protected void makeTimes() {
     double quotient = (double) 1000 / this.fireRate;
@@ -1,22 +1,63 @@
 package eden.common.clock;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * A {@code SimpleSyncroTimer} is a simple timer whose tasks are defined by a
  * {@code Runnable}, alongside the necessary housekeeping.
  *
+ * It runs its task at absolute {@code System.nanoTime()} deadlines, each
+ * computed from the time it started rather than from the end of the task
+ * before, so that the time the task takes does not add to the period, and long
+ * sessions do not drift. It parks until shortly before each deadline, then
+ * spins for the rest.
+ *
+ * When the task overruns past later deadlines, its catch-up policy decides
+ * whether the missed runs are skipped, which they are by default, or made up
+ * back to back, up to one second's worth. Either way, the deadlines after keep
+ * their phase. Each stall counts as one overrun, however many runs it spans.
+ *
+ * Given a {@code SyncroScheduler}, its deadlines are kept by the scheduler
+ * instead, in phase with the other timers it fires. Its own {@code Thread}
+ * then only runs its task for the fires handed to it, so that a task that
+ * blocks never holds up the scheduler. Fires handed over while the task is
+ * still running count as missed. Both the scheduler and that {@code Thread}
+ * then report stalls, so their counts are kept atomically.
+ *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  */
 public class SimpleSyncroTimer extends EDENTimer implements Runnable {
 
+  /** Catch-up policy: Skip missed runs. This is the default. */
+  public static final byte CATCH_UP_SKIP = 0;
+  /** Catch-up policy: Make up missed runs back to back. */
+  public static final byte CATCH_UP_BURST = 1;
+  /** Time in nanoseconds before each deadline from which to spin */
+  private static final long SPIN = 500000;
+
   /** Timer task */
   private Runnable runnable;
   /** Timer Thread */
-  private Thread thread;
-  /** Timer delay */
-  private short delay;
+  private volatile Thread thread;
+  /** SyncroScheduler by which this SimpleSyncroTimer is fired, if any */
+  private final SyncroScheduler scheduler;
   /** Indicates whether this SimpleSyncroTimer is running */
-  private boolean running;
+  private volatile boolean running;
+  /** Indicates whether deadlines are to be counted from the current time */
+  private volatile boolean rebase;
+  /** Catch-up policy */
+  private volatile byte catchUp;
+  /** Number of stalls past a period after a deadline */
+  private final AtomicLong overruns;
+  /** Indicates whether the last run ended past a period after its deadline */
+  private final AtomicBoolean stalled;
+  /** Number of runs skipped */
+  private final AtomicLong skipped;
+  /** Number of fires handed over by the scheduler but not yet run */
+  private final AtomicLong due;
 
   /**
    * Makes a {@code SimpleSyncroTimer} with the given {@code Runnable} and the
@@ -31,10 +72,30 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
    * rate
    */
   public SimpleSyncroTimer(Runnable runnable, short fireRate) {
+    this(runnable, fireRate, null);
+  }
+
+  /**
+   * Makes a {@code SimpleSyncroTimer} with the given {@code Runnable} and fire
+   * rate, to be fired by the given {@code SyncroScheduler}, or on its own
+   * {@code Thread} if it is {@code null}
+   */
+  public SimpleSyncroTimer(
+    Runnable runnable,
+    short fireRate,
+    SyncroScheduler scheduler
+  ) {
     super(fireRate);
     this.runnable = runnable;
+    this.scheduler = scheduler;
     this.thread = new Thread(this);
     this.running = false;
+    this.rebase = true;
+    this.catchUp = CATCH_UP_SKIP;
+    this.overruns = new AtomicLong(0);
+    this.stalled = new AtomicBoolean(false);
+    this.skipped = new AtomicLong(0);
+    this.due = new AtomicLong(0);
     initialize();
   }
 
@@ -45,13 +106,39 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
    */
   @Override
   public void run() {
+    if (this.scheduler != null) {
+      runScheduled();
+      return;
+    }
+    long origin = 0;
+    long fires = 0;
     while (!Thread.currentThread().isInterrupted()) try {
-      if (!running) synchronized (this) {
-        wait();
+      if (!this.running) synchronized (this) {
+        while (!this.running) {
+          wait();
+        }
+      }
+      if (this.rebase) {
+        this.rebase = false;
+        origin = System.nanoTime();
+        fires = 0;
+      }
+      awaitDeadline(getDeadline(origin, fires));
+      if (!this.running) {
+        continue;
       }
       this.runnable.run();
       track();
-      Thread.sleep(this.delay);
+      fires++;
+      long behind = System.nanoTime() - getDeadline(origin, fires);
+      if (behind <= getPeriod()) {
+        this.stalled.set(false);
+        continue;
+      }
+      long missed = behind * this.fireRate / 1000000000L;
+      if (!makeUp(missed)) {
+        fires += missed;
+      }
     } catch (InterruptedException exception) {
       return;
     }
@@ -60,10 +147,17 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
   /** Starts this {@code SimpleSyncroTimer} */
   @Override
   public void start() {
+    if (!this.running) {
+      this.rebase = true;
+    }
     this.running = true;
-    if (this.thread.isInterrupted()) {
+    if (!this.thread.isAlive()) {
       this.thread = new Thread(this);
       this.thread.start();
+    }
+    if (this.scheduler != null) {
+      this.due.set(0);
+      this.scheduler.add(this);
     } else synchronized (this) {
       notifyAll();
     }
@@ -73,6 +167,9 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
   @Override
   public void pause() {
     this.running = false;
+    if (this.scheduler != null) {
+      this.scheduler.remove(this);
+    }
   }
 
   /**
@@ -81,7 +178,7 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
    */
   @Override
   public void stop() {
-    this.running = false;
+    pause();
   }
 
   /**
@@ -94,9 +191,13 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
   }
 
   /**
-   * Interrupts the {@code Thread} on which this {@code SimpleSyncroTimer} runs
+   * Interrupts the {@code Thread} on which this {@code SimpleSyncroTimer} runs,
+   * after unregistering it from its {@code SyncroScheduler}, if any
    */
   public void end() {
+    if (this.scheduler != null) {
+      pause();
+    }
     this.thread.interrupt();
     try {
       this.thread.join();
@@ -116,6 +217,10 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
     }
     this.fireRate = fireRate;
     makeTimes();
+    this.rebase = true;
+    if (this.scheduler != null) {
+      this.scheduler.rebase(this);
+    }
   }
 
   /** Sets the {@code Runnable} of this {@code SimpleSyncroTimer} */
@@ -123,23 +228,121 @@ public class SimpleSyncroTimer extends EDENTimer implements Runnable {
     this.runnable = runnable;
   }
 
+  /** Returns the catch-up policy of this {@code SimpleSyncroTimer} */
+  public byte getCatchUp() {
+    return this.catchUp;
+  }
+
+  /**
+   * Sets the catch-up policy of this {@code SimpleSyncroTimer}, which is
+   * either {@link #CATCH_UP_SKIP} or {@link #CATCH_UP_BURST}
+   */
+  public void setCatchUp(byte catchUp) {
+    this.catchUp = catchUp;
+  }
+
+  /**
+   * Returns the number of times this {@code SimpleSyncroTimer} stalled more
+   * than a period past a deadline, each counted once however many runs it
+   * spans
+   */
+  public long getOverruns() {
+    return this.overruns.get();
+  }
+
+  /** Returns the number of runs of this {@code SimpleSyncroTimer} skipped */
+  public long getSkipped() {
+    return this.skipped.get();
+  }
+
+  /**
+   * Returns the {@code SyncroScheduler} by which this {@code
+   * SimpleSyncroTimer} is fired, if any
+   */
+  public SyncroScheduler getScheduler() {
+    return this.scheduler;
+  }
+
   /** Returns this {@code SimpleSyncroTimer} is running */
   @Override
   public boolean isRunning() {
     return this.running;
   }
 
+  /**
+   * Hands a fire over to the {@code Thread} of this {@code SimpleSyncroTimer}
+   * if it is running
+   */
+  @Override
+  protected void fireScheduled() {
+    if (this.running) {
+      this.due.incrementAndGet();
+      LockSupport.unpark(this.thread);
+    }
+  }
+
+  /**
+   * Counts an overrun if this starts a stall, then returns whether the given
+   * number of missed runs are to be made up by the catch-up policy, counting
+   * them as skipped if not
+   */
+  @Override
+  protected boolean makeUp(long missed) {
+    if (this.stalled.compareAndSet(false, true)) {
+      this.overruns.incrementAndGet();
+    }
+    if (this.catchUp == CATCH_UP_BURST && missed <= this.fireRate) {
+      return true;
+    }
+    this.skipped.addAndGet(missed);
+    return false;
+  }
+
+  /**
+   * Runs the task for the fires handed over by the scheduler until the current
+   * Thread is interrupted. Fires that pile up while the task runs are made up
+   * or skipped by the catch-up policy.
+   */
+  private void runScheduled() {
+    while (!Thread.currentThread().isInterrupted()) {
+      long due = this.due.getAndSet(0);
+      if (due == 0) {
+        LockSupport.park(this);
+        continue;
+      }
+      if (due == 1) {
+        this.stalled.set(false);
+      }
+      long runs = due > 1 && !makeUp(due - 1) ? 1 : due;
+      for (long run = 0; run < runs && this.running; run++) {
+        this.runnable.run();
+        track();
+      }
+    }
+  }
+
+  /**
+   * Parks the current Thread until shortly before the given deadline, then
+   * spins until it passes
+   *
+   * @throws InterruptedException If the current Thread is interrupted
+   */
+  private void awaitDeadline(long deadline) throws InterruptedException {
+    long wait;
+    while ((wait = deadline - System.nanoTime()) > SPIN) {
+      LockSupport.parkNanos(this, wait - SPIN);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+    while (deadline - System.nanoTime() > 0) {
+      Thread.yield();
+    }
+  }
+
   /** Housekeeping routine */
   private void track() {
-    long time = System.currentTimeMillis();
-    if ((!this.clock) && (time - this.time >= this.delayOffset)) {
-      this.delay = this.delayActual;
-      this.clock = true;
-    } else if ((this.clock) && (time - this.time <= this.delayActual)) {
-      this.delay = this.delayOffset;
-      this.clock = false;
-    }
-    this.time = time;
+    this.time = System.currentTimeMillis();
     this.counter.set(((this.counter.get() + 1) % this.fireRate));
   }
 
@@ -2,31 +2,65 @@ package eden.common.clock;
 
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import javax.swing.Timer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.SwingUtilities;
 
 /**
- * A {@code SyncroClock} provides accurate timing to a Java's Swing timer. This
- * overcomes timing discrepancies introduced by its low-precision nature by
- * adjusting its delay as necessary, alternating between floor and ceil
- * intervals.
+ * A {@code SyncroClock} sends {@code ActionEvents} to its listeners on the
+ * Swing event dispatch {@code Thread} at a fixed rate. It keeps time on its
+ * own {@code Thread} against {@code System.nanoTime()} deadlines, each computed
+ * from the time it started rather than from the fire before, so that rates
+ * such as 24 or 30 fires per second are kept to the nanosecond on average
+ * instead of alternating between whole-millisecond delays.
  *
- * A {@code SyncroClock} is a (simplified) {@code Timer} with an additional
- * housekeeping {@code ActionListener}.
+ * Each fire is handed to the event dispatch {@code Thread} on its own. If the
+ * one before is still pending there, it is coalesced into that one instead of
+ * queueing behind it. If the clock falls more than one fire behind, it starts
+ * counting again from the current time instead of firing to catch up.
+ *
+ * Given a {@code SyncroScheduler}, it has no {@code Thread} of its own, and is
+ * fired on that of the scheduler instead, in phase with the other timers it
+ * fires. Fires it falls behind on are then skipped in phase.
+ *
+ * It measures the deviation of the intervals between the fires that reach its
+ * listeners from the ideal interval, in a histogram of {@value
+ * #JITTER_BUCKETS} buckets of {@value #JITTER_BUCKET_WIDTH} nanoseconds each,
+ * the last of which counts every larger deviation.
  *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  *
  * @see EDENTimer
- * @see Timer
  */
 public class SyncroClock extends EDENTimer {
 
-  /** Working Timer */
-  private final Timer timer;
+  /** Number of jitter histogram buckets */
+  public static final int JITTER_BUCKETS = 16;
+  /** Width in nanoseconds of each jitter histogram bucket */
+  public static final long JITTER_BUCKET_WIDTH = 250000;
   /** Tick ActionEvent */
   private final ActionEvent tickEvent;
-  /** ActionListener that manages the alternating timing */
-  private ActionListener listener;
+  /** ActionListeners to which ActionEvents are to be sent */
+  private final List<ActionListener> listeners;
+  /** Indicates whether a fire is pending on the event dispatch Thread */
+  private final AtomicBoolean pending;
+  /** Jitter histogram counts by bucket */
+  private final AtomicLongArray jitter;
+  /** Number of fires coalesced into pending ones */
+  private final AtomicLong coalesced;
+  /** Timing Thread, if running unscheduled */
+  private volatile Thread thread;
+  /** SyncroScheduler by which this SyncroClock is fired, if any */
+  private final SyncroScheduler scheduler;
+  /** Indicates whether this SyncroClock is registered with its scheduler */
+  private volatile boolean scheduled;
+  /** System.nanoTime() when the last fire reached the listeners, or 0 */
+  private long last;
 
   /**
    * Makes a {@code SyncroClock} with the default fire rate of {@value
@@ -38,127 +72,251 @@ public class SyncroClock extends EDENTimer {
 
   /** Makes a {@code SyncroClock} with the given fire rate */
   public SyncroClock(short fireRate) {
+    this(fireRate, null);
+  }
+
+  /**
+   * Makes a {@code SyncroClock} with the given fire rate, to be fired by the
+   * given {@code SyncroScheduler}, or on its own {@code Thread} if it is {@code
+   * null}
+   */
+  public SyncroClock(short fireRate, SyncroScheduler scheduler) {
     super(fireRate);
-    this.timer = new Timer(0, null);
+    this.scheduler = scheduler;
+    this.scheduled = false;
     this.tickEvent = new ActionEvent(this, ActionEvent.ACTION_LAST + 1, "tick");
-    initialize();
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.pending = new AtomicBoolean(false);
+    this.jitter = new AtomicLongArray(JITTER_BUCKETS);
+    this.coalesced = new AtomicLong(0);
+    this.thread = null;
+    this.last = 0;
   }
 
   /**
-   * Starts the {@code Timer} of this {@code SyncroClock}. This causes it to
-   * start sending {@code ActionEvents} to its listeners.
+   * Starts this {@code SyncroClock}. This causes it to fire immediately, then
+   * to keep sending {@code ActionEvents} to its listeners.
    */
   @Override
-  public void start() {
-    if (!this.timer.isRunning()) {
-      this.timer.start();
+  public synchronized void start() {
+    if (isRunning()) {
+      return;
     }
+    this.last = 0;
+    if (this.scheduler != null) {
+      this.scheduled = true;
+      this.scheduler.add(this);
+      return;
+    }
+    this.thread = new Thread(this::run, "SyncroClock");
+    this.thread.setDaemon(true);
+    this.thread.start();
   }
 
   /**
-   * Stops the {@code Timer} of this {@code SyncroClock}. This causes it to stop
-   * sending {@code ActionEvents} to its listeners.
+   * Stops this {@code SyncroClock}. This causes it to stop sending {@code
+   * ActionEvents} to its listeners.
    */
   @Override
-  public void pause() {
-    this.timer.stop();
+  public synchronized void pause() {
+    if (this.scheduler != null) {
+      this.scheduled = false;
+      this.scheduler.remove(this);
+      return;
+    }
+    Thread thread = this.thread;
+    this.thread = null;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
   }
 
   /**
-   * Stops and resets this {@code SyncroClock}. This causes its {@code Timer} to
-   * stop sending {@code ActionEvents} to its listeners.
+   * Stops and resets this {@code SyncroClock}. This causes it to stop sending
+   * {@code ActionEvents} to its listeners.
    */
   @Override
   public void stop() {
-    this.timer.stop();
+    pause();
     this.clock = false;
     this.counter.set(0);
   }
 
   /**
-   * Restarts the {@code Timer} of this {@code SyncroClock}. This cancels any
-   * pending firings and causing it to fire immediately.
+   * Restarts this {@code SyncroClock}. This cancels any pending firings and
+   * causes it to fire immediately.
    */
-  public void restart() {
-    this.timer.restart();
+  public synchronized void restart() {
+    pause();
+    start();
   }
 
   /**
-   * Fires an {@code ActionEvent} to the {@code ActionListeners} registered on
-   * the {@code Timer} of this {@code SyncroClock}
+   * Sends an {@code ActionEvent} to the {@code ActionListeners} of this {@code
+   * SyncroClock} on the current {@code Thread}
    */
   @Override
   public void tick() {
-    for (ActionListener listener : this.timer.getActionListeners()) {
+    this.time = System.currentTimeMillis();
+    this.counter.set(((this.counter.get() + 1) % this.fireRate));
+    for (ActionListener listener : this.listeners) {
       listener.actionPerformed(this.tickEvent);
     }
   }
 
   /**
-   * Returns an array of all the {@code ActionListeners} registered on the
-   * {@code Timer} of this {@code SyncroClock}
+   * Returns an array of all the {@code ActionListeners} of this {@code
+   * SyncroClock}
    */
   public ActionListener[] getActionListeners() {
-    return this.timer.getActionListeners();
+    return this.listeners.toArray(new ActionListener[0]);
   }
 
   /** Sets the number of fires per second for this {@code SyncroClock} */
   @Override
-  public void setFireRate(short fireRate) {
-    boolean wasRunning = this.timer.isRunning();
+  public synchronized void setFireRate(short fireRate) {
+    if (fireRate < 1 || fireRate > 1000) {
+      return;
+    }
+    boolean wasRunning = isRunning();
     stop();
     this.fireRate = fireRate;
     makeTimes();
-    initialize();
     if (wasRunning) {
-      this.timer.start();
+      start();
     }
   }
 
+  /** Adds a given {@code ActionListener} to this {@code SyncroClock} */
+  public void addActionListener(ActionListener listener) {
+    this.listeners.add(listener);
+  }
+
+  /** Removes the given {@code ActionListener} from this {@code SyncroClock} */
+  public void removeActionListener(ActionListener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /** Returns whether this {@code SyncroClock} is running */
+  @Override
+  public boolean isRunning() {
+    return this.thread != null || this.scheduled;
+  }
+
   /**
-   * Adds a given {@code ActionListener} to the {@code Timer} of this {@code
-   * SyncroClock}
+   * Returns the {@code SyncroScheduler} by which this {@code SyncroClock} is
+   * fired, if any
    */
-  public void addActionListener(ActionListener listener) {
-    this.timer.addActionListener(listener);
+  public SyncroScheduler getScheduler() {
+    return this.scheduler;
   }
 
   /**
-   * Removes the given {@code ActionListener} from the {@code Timer} of this
-   * {@code SyncroClock}
+   * Returns a copy of the jitter histogram of this {@code SyncroClock}, whose
+   * every element counts the fires whose intervals deviated from the ideal by
+   * {@value #JITTER_BUCKET_WIDTH} nanoseconds times its index, up to the next
    */
-  public void removeActionListener(ActionListener listener) {
-    this.timer.removeActionListener(listener);
+  public long[] getJitterHistogram() {
+    long[] out = new long[JITTER_BUCKETS];
+    for (int index = 0; index < out.length; index++) {
+      out[index] = this.jitter.get(index);
+    }
+    return out;
   }
 
   /**
-   * Returns whether the {@code Timer} of this {@code SyncroClock} is running
+   * Returns the upper bound in nanoseconds of the jitter histogram bucket
+   * below which the given fraction of the measured intervals fall, or 0 if
+   * none were measured
    */
+  public long getJitter(double fraction) {
+    long[] histogram = getJitterHistogram();
+    long total = 0;
+    for (long count : histogram) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long target = (long) Math.ceil(total * Math.min(Math.max(fraction, 0), 1));
+    long sum = 0;
+    for (int index = 0; index < histogram.length; index++) {
+      sum += histogram[index];
+      if (sum >= target) {
+        return (index + 1) * JITTER_BUCKET_WIDTH;
+      }
+    }
+    return JITTER_BUCKETS * JITTER_BUCKET_WIDTH;
+  }
+
+  /** Returns the number of fires coalesced into pending ones */
+  public long getCoalesced() {
+    return this.coalesced.get();
+  }
+
+  /** Clears the jitter histogram and the coalesced count */
+  public void resetJitter() {
+    for (int index = 0; index < JITTER_BUCKETS; index++) {
+      this.jitter.set(index, 0);
+    }
+    this.coalesced.set(0);
+  }
+
+  /** Fires at every deadline until this SyncroClock stops running on it */
+  private void run() {
+    Thread thread = Thread.currentThread();
+    long origin = System.nanoTime();
+    long fires = 0;
+    while (this.thread == thread) {
+      long deadline = getDeadline(origin, fires);
+      long wait;
+      while ((wait = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(this, wait);
+        if (this.thread != thread) {
+          return;
+        }
+      }
+      post();
+      fires++;
+      if (System.nanoTime() - getDeadline(origin, fires) > getPeriod()) {
+        origin = System.nanoTime();
+        fires = 0;
+      }
+    }
+  }
+
+  /** Hands a fire to the event dispatch {@code Thread} */
   @Override
-  public boolean isRunning() {
-    return this.timer.isRunning();
+  protected void fireScheduled() {
+    post();
   }
 
   /**
-   * Initializes the Timer, adding the necessary housekeeping ActionListener.
+   * Hands a fire to the event dispatch Thread, or coalesces it into the one
+   * still pending there
    */
-  private void initialize() {
-    if (this.listener != null) {
-      this.timer.removeActionListener(this.listener);
-    }
-    this.listener =
-      e -> {
-        long time = System.currentTimeMillis();
-        if ((!this.clock) && (time - this.time >= this.delayOffset)) {
-          this.timer.setDelay(this.delayActual);
-          this.clock = true;
-        } else if ((this.clock) && (time - this.time <= this.delayActual)) {
-          this.timer.setDelay(this.delayOffset);
-          this.clock = false;
-        }
-        this.time = time;
-        this.counter.set(((this.counter.get() + 1) % this.fireRate));
-      };
-    this.timer.addActionListener(this.listener);
+  private void post() {
+    if (this.pending.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(this::fire);
+    } else {
+      this.coalesced.incrementAndGet();
+    }
+  }
+
+  /** Sends a scheduled fire on the event dispatch Thread */
+  private void fire() {
+    this.pending.set(false);
+    if (!isRunning()) {
+      return;
+    }
+    long time = System.nanoTime();
+    if (this.last != 0) {
+      long deviation = Math.abs(time - this.last - getPeriod());
+      this.jitter.incrementAndGet(
+        (int) Math.min(deviation / JITTER_BUCKET_WIDTH, JITTER_BUCKETS - 1)
+      );
+    }
+    this.last = time;
+    tick();
   }
 }
@@ -0,0 +1,206 @@
+package eden.common.clock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@code SyncroScheduler} fires the {@code EDENTimers} registered with it on
+ * a single timing {@code Thread} that it owns. The deadlines of every timer
+ * are computed from the one origin of the scheduler, so that timers of the
+ * same fire rate are fired in the same pass, in the order they were
+ * registered, however far apart they started. Timers of other rates keep their
+ * own phase against the same origin.
+ *
+ * The {@code Thread} parks until shortly before the earliest deadline, then
+ * spins for the rest. It parks indefinitely while no timers are registered.
+ * Each timer decides whether fires it missed while the {@code Thread} was busy
+ * are made up back to back or skipped. Either way, the deadlines after keep
+ * their phase. Timers are to hand blocking work off to their own {@code
+ * Threads}. An exception thrown by one is reported as uncaught, and the others
+ * keep being fired.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see EDENTimer
+ */
+public class SyncroScheduler implements Runnable {
+
+  /** Time in nanoseconds before each deadline from which to spin */
+  private static final long SPIN = 500000;
+  /** Shared SyncroScheduler, if made */
+  private static SyncroScheduler shared;
+  /** Registered timers, in the order they were registered */
+  private final List<Entry> entries;
+  /** System.nanoTime() from which all deadlines are computed */
+  private final long origin;
+  /** Timing Thread */
+  private final Thread thread;
+
+  /** Makes a {@code SyncroScheduler} whose timing Thread has the given name */
+  public SyncroScheduler(String name) {
+    this.entries = new CopyOnWriteArrayList<>();
+    this.origin = System.nanoTime();
+    this.thread = new Thread(this, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Returns the {@code SyncroScheduler} shared by the whole application, making
+   * it if there is none yet
+   */
+  public static synchronized SyncroScheduler getShared() {
+    if (shared == null) {
+      shared = new SyncroScheduler("SyncroScheduler");
+    }
+    return shared;
+  }
+
+  /**
+   * Runs this {@code SyncroScheduler}. It runs on its own {@code Thread}, so
+   * this method is not to be called otherwise.
+   */
+  @Override
+  public void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      long deadline = getNextDeadline();
+      if (deadline == Long.MAX_VALUE) {
+        LockSupport.park(this);
+        continue;
+      }
+      long wait = deadline - System.nanoTime();
+      if (wait > SPIN) {
+        LockSupport.parkNanos(this, wait - SPIN);
+        continue;
+      }
+      while (deadline - System.nanoTime() > 0) {
+        Thread.yield();
+      }
+      fire(System.nanoTime());
+    }
+  }
+
+  /**
+   * Registers the given {@code EDENTimer}, if it is not yet, which is then to
+   * be fired at the next deadline of its fire rate
+   */
+  public synchronized void add(EDENTimer timer) {
+    if (find(timer) == null) {
+      this.entries.add(new Entry(timer));
+      LockSupport.unpark(this.thread);
+    }
+  }
+
+  /** Unregisters the given {@code EDENTimer}, if it is */
+  public synchronized void remove(EDENTimer timer) {
+    this.entries.remove(find(timer));
+  }
+
+  /** Returns whether the given {@code EDENTimer} is registered */
+  public boolean contains(EDENTimer timer) {
+    return find(timer) != null;
+  }
+
+  /**
+   * Counts the deadlines of the given {@code EDENTimer}, if registered, anew
+   * from its current fire rate. This is to be called whenever it changes.
+   */
+  public void rebase(EDENTimer timer) {
+    Entry entry = find(timer);
+    if (entry != null) {
+      entry.rebase = true;
+      LockSupport.unpark(this.thread);
+    }
+  }
+
+  /** Returns the number of registered timers */
+  public int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * Returns the earliest deadline of the registered timers, counting those due
+   * a rebase anew, or {@code Long.MAX_VALUE} if there are none
+   */
+  private long getNextDeadline() {
+    long now = System.nanoTime();
+    long out = Long.MAX_VALUE;
+    for (Entry entry : this.entries) {
+      if (entry.rebase) {
+        entry.rebase = false;
+        long rate = entry.timer.getFireRate();
+        entry.fires = ((now - this.origin) * rate + 999999999L) / 1000000000L;
+      }
+      long deadline = entry.timer.getDeadline(this.origin, entry.fires);
+      if (out == Long.MAX_VALUE || deadline - out < 0) {
+        out = deadline;
+      }
+    }
+    return out;
+  }
+
+  /** Fires the registered timers whose deadlines passed by the given time */
+  private void fire(long now) {
+    for (Entry entry : this.entries) {
+      EDENTimer timer = entry.timer;
+      long deadline = timer.getDeadline(this.origin, entry.fires);
+      if (entry.rebase || now - deadline < 0) {
+        continue;
+      }
+      try {
+        timer.fireScheduled();
+      } catch (RuntimeException exception) {
+        report(exception);
+      }
+      entry.fires++;
+      long behind =
+        System.nanoTime() - timer.getDeadline(this.origin, entry.fires);
+      if (behind <= timer.getPeriod()) {
+        continue;
+      }
+      long missed = behind * timer.getFireRate() / 1000000000L;
+      if (!timer.makeUp(missed)) {
+        entry.fires += missed;
+      }
+    }
+  }
+
+  /**
+   * Reports the given exception, thrown by a timer, to the handler of uncaught
+   * exceptions of the timing Thread, which keeps running
+   */
+  private void report(RuntimeException exception) {
+    Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+  }
+
+  /** Returns the Entry of the given timer, if registered */
+  private Entry find(EDENTimer timer) {
+    for (Entry entry : this.entries) {
+      if (entry.timer == timer) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  /** A registered timer */
+  private static final class Entry {
+
+    /** Timer */
+    final EDENTimer timer;
+    /** Number of fires from the origin to the next deadline */
+    long fires;
+    /** Indicates whether the next deadline is to be counted anew */
+    volatile boolean rebase;
+
+    /** Makes an Entry with the given timer */
+    Entry(EDENTimer timer) {
+      this.timer = timer;
+      this.fires = 0;
+      this.rebase = true;
+    }
+  }
+}
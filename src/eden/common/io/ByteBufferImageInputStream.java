@@ -0,0 +1,81 @@
+package eden.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * A {@code ByteBufferImageInputStream} is an {@code ImageInputStream} over the
+ * remaining bytes of a {@code ByteBuffer}. It lets image decoders read encoded
+ * data straight from memory, including mapped files and direct buffers,
+ * without copying it or caching it again.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class ByteBufferImageInputStream extends ImageInputStreamImpl {
+
+  /** View over the given ByteBuffer */
+  private final ByteBuffer buffer;
+  /** Length of the stream in bytes */
+  private final int length;
+
+  /**
+   * Makes a {@code ByteBufferImageInputStream} over the remaining bytes of the
+   * given {@code ByteBuffer}, whose position and limit are left untouched
+   */
+  public ByteBufferImageInputStream(ByteBuffer buffer) {
+    this.buffer = buffer.slice();
+    this.length = this.buffer.remaining();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int read() throws IOException {
+    checkClosed();
+    this.bitOffset = 0;
+    if (this.streamPos >= this.length) {
+      return -1;
+    }
+    return this.buffer.get((int) this.streamPos++) & 0xff;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    checkClosed();
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    this.bitOffset = 0;
+    if (length == 0) {
+      return 0;
+    }
+    if (this.streamPos >= this.length) {
+      return -1;
+    }
+    int out = (int) Math.min(length, this.length - this.streamPos);
+    this.buffer.position((int) this.streamPos);
+    this.buffer.get(bytes, offset, out);
+    this.streamPos += out;
+    return out;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long length() {
+    return this.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isCached() {
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isCachedMemory() {
+    return true;
+  }
+}
@@ -0,0 +1,274 @@
+package eden.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code CachingFrameReader} keeps the encoded bytes of the frames of an
+ * image sequence in memory, on or off the heap, so that once warm, playback is
+ * bound by decoding rather than by storage. Encoded frames are far smaller than
+ * decoded ones, so many more of them fit in the same memory.
+ *
+ * It reads frame files by default, or frames from another {@code FrameReader}
+ * that is safe for use by multiple {@code Threads}, such as a {@code
+ * PackedFrameReader}.
+ *
+ * When run, it fills itself in the background from the first frame to the
+ * last. Frames read before being filled are kept too. Once its budget is
+ * spent, further frames are read through without being kept.
+ *
+ * A {@code CachingFrameReader} is safe for use by multiple {@code Threads}.
+ * Each read returns its own view over the kept bytes.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class CachingFrameReader implements FrameReader, Runnable {
+
+  /** Default memory budget in bytes */
+  public static final long DEFAULT_BUDGET = 512L << 20;
+  /** FrameReader from which frames are to be read, if not from files */
+  private final FrameReader source;
+  /** Path to working directory */
+  private final String path;
+  /** Frame file extension */
+  private final String extension;
+  /** First frame to be filled */
+  private final int start;
+  /** Last frame to be filled */
+  private final int end;
+  /** Indicates whether bytes are to be kept off the heap */
+  private final boolean direct;
+  /** Memory budget in bytes */
+  private final long budget;
+  /** Kept bytes by frame number */
+  private final Map<Integer, ByteBuffer> frames;
+  /** Number of bytes kept */
+  private final AtomicLong bytes;
+  /** Number of reads served by kept bytes */
+  private final AtomicLong hits;
+  /** Number of reads not served by kept bytes */
+  private final AtomicLong misses;
+
+  /**
+   * Makes a {@code CachingFrameReader} with the given parameters and the
+   * default memory budget of 512 MiB
+   */
+  public CachingFrameReader(
+    String path,
+    String extension,
+    int start,
+    int end,
+    boolean direct
+  ) {
+    this(path, extension, start, end, direct, DEFAULT_BUDGET);
+  }
+
+  /**
+   * Makes a {@code CachingFrameReader} with the given parameters
+   *
+   * @param path Path to working directory
+   *
+   * @param extension Frame file extension
+   *
+   * @param start First frame to be filled
+   *
+   * @param end Last frame to be filled
+   *
+   * @param direct Whether bytes are to be kept in direct {@code ByteBuffers}
+   * off the heap
+   *
+   * @param budget Memory budget in bytes
+   */
+  public CachingFrameReader(
+    String path,
+    String extension,
+    int start,
+    int end,
+    boolean direct,
+    long budget
+  ) {
+    this(null, path, extension, start, end, direct, budget);
+  }
+
+  /**
+   * Makes a {@code CachingFrameReader} that reads frames from the given {@code
+   * FrameReader}, which must be safe for use by multiple {@code Threads}
+   *
+   * @param source {@code FrameReader} from which frames are to be read
+   *
+   * @param start First frame to be filled
+   *
+   * @param end Last frame to be filled
+   *
+   * @param direct Whether bytes are to be kept in direct {@code ByteBuffers}
+   * off the heap
+   *
+   * @param budget Memory budget in bytes
+   */
+  public CachingFrameReader(
+    FrameReader source,
+    int start,
+    int end,
+    boolean direct,
+    long budget
+  ) {
+    this(source, null, null, start, end, direct, budget);
+  }
+
+  /** Makes a CachingFrameReader with the given parameters */
+  private CachingFrameReader(
+    FrameReader source,
+    String path,
+    String extension,
+    int start,
+    int end,
+    boolean direct,
+    long budget
+  ) {
+    this.source = source;
+    this.path = path;
+    this.extension = extension;
+    this.start = start;
+    this.end = end;
+    this.direct = direct;
+    this.budget = Math.max(budget, 0);
+    this.frames = new ConcurrentHashMap<>();
+    this.bytes = new AtomicLong(0);
+    this.hits = new AtomicLong(0);
+    this.misses = new AtomicLong(0);
+  }
+
+  /**
+   * Fills this {@code CachingFrameReader} from the first frame to the last
+   * until its budget is spent or the current {@code Thread} is interrupted.
+   * Missing frames are skipped.
+   */
+  @Override
+  public void run() {
+    for (
+      int frame = this.start;
+      frame <= this.end &&
+      this.bytes.get() < this.budget &&
+      !Thread.currentThread().isInterrupted();
+      frame++
+    ) {
+      if (this.frames.containsKey(frame)) {
+        continue;
+      }
+      try {
+        keep(frame, load(frame));
+      } catch (NoSuchFileException exception) {
+        continue;
+      } catch (IOException exception) {
+        return;
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ByteBuffer read(int frame) throws IOException {
+    ByteBuffer out = this.frames.get(frame);
+    if (out != null) {
+      this.hits.incrementAndGet();
+      return out.duplicate();
+    }
+    this.misses.incrementAndGet();
+    out = load(frame);
+    keep(frame, out);
+    return out.duplicate();
+  }
+
+  /** Drops all kept bytes */
+  public void clear() {
+    this.frames.clear();
+    this.bytes.set(0);
+  }
+
+  /** Returns the memory budget in bytes */
+  public long getBudget() {
+    return this.budget;
+  }
+
+  /** Returns the number of bytes kept */
+  public long getBytes() {
+    return this.bytes.get();
+  }
+
+  /** Returns the number of kept frames */
+  public int getSize() {
+    return this.frames.size();
+  }
+
+  /** Returns the number of reads served by kept bytes */
+  public long getHits() {
+    return this.hits.get();
+  }
+
+  /** Returns the number of reads not served by kept bytes */
+  public long getMisses() {
+    return this.misses.get();
+  }
+
+  /** Returns whether bytes are kept off the heap */
+  public boolean isDirect() {
+    return this.direct;
+  }
+
+  /**
+   * Reads the file of the given frame whole, or the frame from the source
+   * FrameReader, into a new ByteBuffer
+   */
+  private ByteBuffer load(int frame) throws IOException {
+    if (this.source != null) {
+      ByteBuffer in = this.source.read(frame);
+      ByteBuffer out = this.direct
+        ? ByteBuffer.allocateDirect(in.remaining())
+        : ByteBuffer.allocate(in.remaining());
+      out.put(in);
+      out.flip();
+      return out.asReadOnlyBuffer();
+    }
+    try (
+      FileChannel channel = FileChannel.open(
+        Paths.get(this.path + frame + "." + this.extension),
+        StandardOpenOption.READ
+      )
+    ) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Frame too large: " + frame);
+      }
+      ByteBuffer out = this.direct
+        ? ByteBuffer.allocateDirect((int) size)
+        : ByteBuffer.allocate((int) size);
+      while (out.hasRemaining()) {
+        if (channel.read(out) < 0) {
+          break;
+        }
+      }
+      out.flip();
+      return out.asReadOnlyBuffer();
+    }
+  }
+
+  /** Keeps the given bytes of the given frame if the budget allows */
+  private void keep(int frame, ByteBuffer buffer) {
+    long size = buffer.remaining();
+    if (this.bytes.addAndGet(size) > this.budget) {
+      this.bytes.addAndGet(-size);
+      return;
+    }
+    if (this.frames.putIfAbsent(frame, buffer) != null) {
+      this.bytes.addAndGet(-size);
+    }
+  }
+}
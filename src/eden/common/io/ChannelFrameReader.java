@@ -0,0 +1,125 @@
+package eden.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@code ChannelFrameReader} reads frame files of an image sequence through
+ * {@code FileChannels}, each file whole into one reusable direct {@code
+ * ByteBuffer} of the calling {@code Thread}. A frame costs one open and one
+ * read, instead of the many small buffered reads of a stream, and leaves no
+ * mapping behind. Memory-mapping is left to {@code PackedFrameReader}, which
+ * maps its one file once.
+ *
+ * Given a {@code FrameIndex}, it fails on frames known to be missing without
+ * touching the file system, and sizes its buffers for the largest frame up
+ * front.
+ *
+ * A {@code ChannelFrameReader} is safe for use by multiple {@code Threads},
+ * as each has its own buffer.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see PackedFrameReader
+ */
+public class ChannelFrameReader implements FrameReader {
+
+  /** Initial direct buffer capacity in bytes */
+  private static final int INITIAL_CAPACITY = 1 << 20;
+  /** Path to working directory */
+  private final String path;
+  /** Frame file extension */
+  private final String extension;
+  /** Direct buffers into which frame files are to be read, by Thread */
+  private final ThreadLocal<ByteBuffer> buffers;
+  /** FrameIndex by which missing frames are known, if any */
+  private volatile FrameIndex index;
+
+  /**
+   * Makes a {@code ChannelFrameReader} with the given parameters
+   *
+   * @param path Path to working directory
+   *
+   * @param extension Frame file extension
+   */
+  public ChannelFrameReader(String path, String extension) {
+    this.path = path;
+    this.extension = extension;
+    this.buffers = new ThreadLocal<>();
+    this.index = null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ByteBuffer read(int frame) throws IOException {
+    FrameIndex index = this.index;
+    if (index != null && !index.contains(frame)) {
+      throw new NoSuchFileException(this.path + frame + "." + this.extension);
+    }
+    try (
+      FileChannel channel = FileChannel.open(
+        Paths.get(this.path + frame + "." + this.extension),
+        StandardOpenOption.READ
+      )
+    ) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Frame too large: " + frame);
+      }
+      ByteBuffer out = makeBuffer((int) size);
+      while (out.hasRemaining()) {
+        if (channel.read(out) < 0) {
+          break;
+        }
+      }
+      out.flip();
+      return out;
+    }
+  }
+
+  /** Returns the {@code FrameIndex} of this {@code ChannelFrameReader} */
+  public FrameIndex getIndex() {
+    return this.index;
+  }
+
+  /**
+   * Sets the {@code FrameIndex} by which missing frames are to be known.
+   * Passing {@code null} disables it.
+   */
+  public void setIndex(FrameIndex index) {
+    this.index = index;
+  }
+
+  /**
+   * Returns the direct buffer of the calling Thread cleared and limited to the
+   * given size, growing it first if necessary
+   */
+  private ByteBuffer makeBuffer(int size) {
+    ByteBuffer out = this.buffers.get();
+    if (out == null || out.capacity() < size) {
+      FrameIndex index = this.index;
+      int capacity = out == null ? INITIAL_CAPACITY : out.capacity();
+      if (index != null) {
+        capacity = (int) Math.min(
+          Math.max(capacity, index.getMaximumSize()),
+          Integer.MAX_VALUE
+        );
+      }
+      while (capacity < size) {
+        capacity = capacity > (Integer.MAX_VALUE >> 1)
+          ? Integer.MAX_VALUE
+          : capacity << 1;
+      }
+      out = ByteBuffer.allocateDirect(capacity);
+      this.buffers.set(out);
+    }
+    out.clear();
+    out.limit(size);
+    return out;
+  }
+}
@@ -0,0 +1,244 @@
+package eden.common.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.stream.IntStream;
+
+/**
+ * A {@code FrameIndex} records the size and last-modified time of every frame
+ * file of an image sequence, so that missing frames are known before playback
+ * reaches them, and readers can size their buffers up front. Empty files count
+ * as missing.
+ *
+ * It is built by statting frame files in parallel, and can be saved and read
+ * back, so that later loads skip the stats. A saved index is stale once the
+ * directory has been modified after it, as happens when files are added,
+ * removed, or renamed.
+ *
+ * A {@code FrameIndex} is immutable.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameIndex {
+
+  /** Saved index signature */
+  public static final String SIGNATURE = "EDENINDX";
+  /** Saved index format version */
+  public static final int VERSION = 1;
+  /** First frame */
+  private final int start;
+  /** Last frame */
+  private final int end;
+  /** Time in milliseconds up to which this FrameIndex is current */
+  private final long modified;
+  /** File sizes in bytes, or -1 if missing, by frame number */
+  private final long[] sizes;
+  /** File last-modified times in milliseconds, by frame number */
+  private final long[] times;
+  /** Number of missing frames */
+  private final int missing;
+  /** Largest file size in bytes */
+  private final long maximum;
+
+  /** Makes a FrameIndex with the given parameters */
+  private FrameIndex(
+    int start,
+    int end,
+    long modified,
+    long[] sizes,
+    long[] times
+  ) {
+    this.start = start;
+    this.end = end;
+    this.modified = modified;
+    this.sizes = sizes;
+    this.times = times;
+    int missing = 0;
+    long maximum = 0;
+    for (long size : sizes) {
+      if (size < 0) {
+        missing++;
+      } else {
+        maximum = Math.max(maximum, size);
+      }
+    }
+    this.missing = missing;
+    this.maximum = maximum;
+  }
+
+  /**
+   * Builds a {@code FrameIndex} by statting the frame files of the given range
+   * in parallel
+   *
+   * @param path Path to working directory
+   *
+   * @param extension Frame file extension
+   *
+   * @param start First frame
+   *
+   * @param end Last frame
+   *
+   * @throws IOException If the directory cannot be statted
+   */
+  public static FrameIndex build(
+    String path,
+    String extension,
+    int start,
+    int end
+  ) throws IOException {
+    if (end < start) {
+      throw new IllegalArgumentException();
+    }
+    long modified = System.currentTimeMillis();
+    long[] sizes = new long[end - start + 1];
+    long[] times = new long[sizes.length];
+    IntStream.range(0, sizes.length)
+      .parallel()
+      .forEach(index -> {
+        Path file = Paths.get(path + (start + index) + "." + extension);
+        try {
+          BasicFileAttributes attributes = Files.readAttributes(
+            file,
+            BasicFileAttributes.class
+          );
+          sizes[index] =
+            attributes.isRegularFile() && attributes.size() > 0
+              ? attributes.size()
+              : -1;
+          times[index] = attributes.lastModifiedTime().toMillis();
+        } catch (IOException exception) {
+          sizes[index] = -1;
+        }
+      });
+    return new FrameIndex(start, end, modified, sizes, times);
+  }
+
+  /**
+   * Reads a saved {@code FrameIndex} from the given file
+   *
+   * @throws NoSuchFileException If the file does not exist
+   *
+   * @throws IOException If the file is not a saved index, or if a read
+   * operation fails or is interrupted
+   */
+  public static FrameIndex read(String file) throws IOException {
+    long modified = Files.getLastModifiedTime(Paths.get(file)).toMillis();
+    try (
+      DataInputStream stream = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(Paths.get(file)))
+      )
+    ) {
+      byte[] signature = new byte[SIGNATURE.length()];
+      stream.readFully(signature);
+      if (
+        !SIGNATURE.equals(new String(signature, "US-ASCII")) ||
+        stream.readInt() != VERSION
+      ) {
+        throw new IOException(file + " Bad signature");
+      }
+      int start = stream.readInt();
+      int end = stream.readInt();
+      if (end < start) {
+        throw new IOException(file + " Bad header");
+      }
+      long[] sizes = new long[end - start + 1];
+      long[] times = new long[sizes.length];
+      for (int index = 0; index < sizes.length; index++) {
+        sizes[index] = stream.readLong();
+        times[index] = stream.readLong();
+      }
+      return new FrameIndex(start, end, modified, sizes, times);
+    }
+  }
+
+  /**
+   * Saves this {@code FrameIndex} into the given file, replacing it if it
+   * exists
+   *
+   * @throws IOException If a write operation fails or is interrupted
+   */
+  public void write(String file) throws IOException {
+    try (
+      DataOutputStream stream = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(Paths.get(file)))
+      )
+    ) {
+      stream.write(SIGNATURE.getBytes("US-ASCII"));
+      stream.writeInt(VERSION);
+      stream.writeInt(this.start);
+      stream.writeInt(this.end);
+      for (int index = 0; index < this.sizes.length; index++) {
+        stream.writeLong(this.sizes[index]);
+        stream.writeLong(this.times[index]);
+      }
+    }
+  }
+
+  /**
+   * Returns whether this {@code FrameIndex} covers the given range and the
+   * directory pointed by the given path has not been modified after it was
+   * built or saved
+   */
+  public boolean isCurrent(String path, int start, int end) {
+    try {
+      long modified = Files.getLastModifiedTime(Paths.get(path)).toMillis();
+      return (
+        this.start == start && this.end == end && modified <= this.modified
+      );
+    } catch (IOException exception) {
+      return false;
+    }
+  }
+
+  /** Returns whether the file of the given frame exists and is not empty */
+  public boolean contains(int frame) {
+    return getSize(frame) >= 0;
+  }
+
+  /**
+   * Returns the size in bytes of the file of the given frame, or -1 if it is
+   * missing or out of range
+   */
+  public long getSize(int frame) {
+    return frame < this.start || frame > this.end
+      ? -1
+      : this.sizes[frame - this.start];
+  }
+
+  /**
+   * Returns the last-modified time in milliseconds of the file of the given
+   * frame, or 0 if it is missing or out of range
+   */
+  public long getLastModified(int frame) {
+    return contains(frame) ? this.times[frame - this.start] : 0;
+  }
+
+  /** Returns the first frame number */
+  public int getStart() {
+    return this.start;
+  }
+
+  /** Returns the last frame number */
+  public int getEnd() {
+    return this.end;
+  }
+
+  /** Returns the number of missing frames */
+  public int getMissing() {
+    return this.missing;
+  }
+
+  /** Returns the largest file size in bytes */
+  public long getMaximumSize() {
+    return this.maximum;
+  }
+}
@@ -0,0 +1,26 @@
+package eden.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * A {@code FrameReader} reads the encoded bytes of frames of an image sequence
+ * into memory, from which they can be decoded without further I/O.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public interface FrameReader {
+  /**
+   * Reads the encoded bytes of the given frame
+   *
+   * @return A {@code ByteBuffer} whose remaining bytes are those of the frame.
+   * It remains valid until the next call on the same {@code Thread}.
+   *
+   * @throws NoSuchFileException If the given frame does not exist
+   *
+   * @throws IOException If a read operation fails or is interrupted
+   */
+  ByteBuffer read(int frame) throws IOException;
+}
@@ -0,0 +1,272 @@
+package eden.common.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * A {@code HoldMap} maps every frame of an image sequence to the frame whose
+ * image it shows, which is the first of the run of identical adjacent frames
+ * that it belongs to, or itself if it differs from the one before. Players can
+ * then show a held frame by reusing the image of its source, without decoding
+ * it.
+ *
+ * It is built by hashing every frame in parallel, then comparing the bytes of
+ * adjacent frames whose sizes and hashes match, also in parallel. It can be
+ * saved and read back, so that later loads skip the work. A saved map is stale
+ * once its sequence has been modified after it.
+ *
+ * A {@code HoldMap} is immutable.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class HoldMap {
+
+  /** Saved map signature */
+  public static final String SIGNATURE = "EDENHOLD";
+  /** Saved map format version */
+  public static final int VERSION = 1;
+  /** First frame */
+  private final int start;
+  /** Last frame */
+  private final int end;
+  /** Time in milliseconds up to which this HoldMap is current */
+  private final long modified;
+  /** Source frame numbers, by frame number */
+  private final int[] sources;
+  /** Number of held frames */
+  private final int held;
+
+  /** Makes a HoldMap with the given parameters */
+  private HoldMap(int start, int end, long modified, int[] sources) {
+    this.start = start;
+    this.end = end;
+    this.modified = modified;
+    this.sources = sources;
+    int held = 0;
+    for (int index = 0; index < sources.length; index++) {
+      if (sources[index] != start + index) {
+        held++;
+      }
+    }
+    this.held = held;
+  }
+
+  /**
+   * Builds a {@code HoldMap} by reading the frames of the given range with the
+   * given {@code FrameReader}, which must be safe for use by multiple {@code
+   * Threads}. Missing frames hold nothing and are held by nothing.
+   *
+   * @throws IOException If a read operation fails or is interrupted
+   */
+  public static HoldMap build(FrameReader reader, int start, int end)
+    throws IOException {
+    return build(reader, start, end, null);
+  }
+
+  /**
+   * Builds a {@code HoldMap} by reading the frames of the given range with the
+   * given {@code FrameReader}, which must be safe for use by multiple {@code
+   * Threads}, reporting the number of frames hashed so far to the given
+   * consumer, if any, from any {@code Thread}
+   *
+   * @throws IOException If a read operation fails or is interrupted
+   */
+  public static HoldMap build(
+    FrameReader reader,
+    int start,
+    int end,
+    IntConsumer progress
+  ) throws IOException {
+    if (end < start) {
+      throw new IllegalArgumentException();
+    }
+    long modified = System.currentTimeMillis();
+    int length = end - start + 1;
+    long[] hashes = new long[length];
+    int[] sizes = new int[length];
+    boolean[] equals = new boolean[length];
+    AtomicInteger hashed = new AtomicInteger(0);
+    try {
+      IntStream.range(0, length)
+        .parallel()
+        .forEach(index -> {
+          ByteBuffer buffer = read(reader, start + index);
+          if (buffer == null) {
+            sizes[index] = -1;
+          } else {
+            CRC32 crc = new CRC32();
+            sizes[index] = buffer.remaining();
+            crc.update(buffer);
+            hashes[index] = crc.getValue();
+          }
+          if (progress != null) {
+            progress.accept(hashed.incrementAndGet());
+          }
+        });
+      IntStream.range(1, length)
+        .parallel()
+        .forEach(index -> {
+          if (
+            sizes[index] < 0 ||
+            sizes[index] != sizes[index - 1] ||
+            hashes[index] != hashes[index - 1]
+          ) {
+            return;
+          }
+          ByteBuffer previous = copy(read(reader, start + index - 1));
+          ByteBuffer current = read(reader, start + index);
+          equals[index] =
+            previous != null && current != null && previous.equals(current);
+        });
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+    int[] sources = new int[length];
+    for (int index = 0; index < length; index++) {
+      sources[index] = equals[index] ? sources[index - 1] : start + index;
+    }
+    return new HoldMap(start, end, modified, sources);
+  }
+
+  /**
+   * Reads a saved {@code HoldMap} from the given file
+   *
+   * @throws NoSuchFileException If the file does not exist
+   *
+   * @throws IOException If the file is not a saved map, or if a read operation
+   * fails or is interrupted
+   */
+  public static HoldMap read(String file) throws IOException {
+    long modified = Files.getLastModifiedTime(Paths.get(file)).toMillis();
+    try (
+      DataInputStream stream = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(Paths.get(file)))
+      )
+    ) {
+      byte[] signature = new byte[SIGNATURE.length()];
+      stream.readFully(signature);
+      if (
+        !SIGNATURE.equals(new String(signature, "US-ASCII")) ||
+        stream.readInt() != VERSION
+      ) {
+        throw new IOException(file + " Bad signature");
+      }
+      int start = stream.readInt();
+      int end = stream.readInt();
+      if (end < start) {
+        throw new IOException(file + " Bad header");
+      }
+      int[] sources = new int[end - start + 1];
+      for (int index = 0; index < sources.length; index++) {
+        sources[index] = stream.readInt();
+        if (sources[index] < start || sources[index] > start + index) {
+          throw new IOException(file + " Bad source");
+        }
+      }
+      return new HoldMap(start, end, modified, sources);
+    }
+  }
+
+  /**
+   * Saves this {@code HoldMap} into the given file, replacing it if it exists
+   *
+   * @throws IOException If a write operation fails or is interrupted
+   */
+  public void write(String file) throws IOException {
+    try (
+      DataOutputStream stream = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(Paths.get(file)))
+      )
+    ) {
+      stream.write(SIGNATURE.getBytes("US-ASCII"));
+      stream.writeInt(VERSION);
+      stream.writeInt(this.start);
+      stream.writeInt(this.end);
+      for (int source : this.sources) {
+        stream.writeInt(source);
+      }
+    }
+  }
+
+  /**
+   * Returns whether this {@code HoldMap} covers the given range and the file or
+   * directory pointed by the given path has not been modified after it was
+   * built or saved
+   */
+  public boolean isCurrent(String path, int start, int end) {
+    try {
+      long modified = Files.getLastModifiedTime(Paths.get(path)).toMillis();
+      return (
+        this.start == start && this.end == end && modified <= this.modified
+      );
+    } catch (IOException exception) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the frame whose image the given frame shows, which is the given
+   * frame itself if it is not held or out of range
+   */
+  public int getSource(int frame) {
+    return frame < this.start || frame > this.end
+      ? frame
+      : this.sources[frame - this.start];
+  }
+
+  /** Returns the first frame number */
+  public int getStart() {
+    return this.start;
+  }
+
+  /** Returns the last frame number */
+  public int getEnd() {
+    return this.end;
+  }
+
+  /** Returns the number of held frames */
+  public int getHeld() {
+    return this.held;
+  }
+
+  /**
+   * Returns a heap copy of the remaining bytes of the given buffer, which then
+   * outlives the next read on the same Thread, or null if it is null
+   */
+  private static ByteBuffer copy(ByteBuffer buffer) {
+    if (buffer == null) {
+      return null;
+    }
+    ByteBuffer out = ByteBuffer.allocate(buffer.remaining());
+    out.put(buffer);
+    out.flip();
+    return out;
+  }
+
+  /**
+   * Returns the bytes of the given frame read with the given FrameReader, or
+   * null if it does not exist
+   */
+  private static ByteBuffer read(FrameReader reader, int frame) {
+    try {
+      return reader.read(frame);
+    } catch (NoSuchFileException exception) {
+      return null;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package eden.common.io;
+
+import static eden.common.io.PackedFrameWriter.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code PackedFrameReader} reads frames from one packed file, which it
+ * memory-maps whole on construction. Finding a frame is then a lookup in its
+ * index, and reading it costs neither an open nor a copy.
+ *
+ * Files larger than a {@code MappedByteBuffer} can address are mapped in
+ * several regions, each holding whole frames.
+ *
+ * A {@code PackedFrameReader} is safe for use by multiple {@code Threads}.
+ * Each read returns its own view over the mapped file.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see PackedFrameWriter
+ */
+public class PackedFrameReader implements FrameReader {
+
+  /** Path to the packed file */
+  private final String file;
+  /** First frame */
+  private final int start;
+  /** Last frame */
+  private final int end;
+  /** Header metadata */
+  private final byte[] metadata;
+  /** Offsets of frames from the start of their regions, by frame number */
+  private final int[] offsets;
+  /** Lengths of frames, or -1 if missing, by frame number */
+  private final int[] lengths;
+  /** Regions of frames, by frame number */
+  private final int[] regions;
+  /** Mapped regions of the packed file */
+  private final List<MappedByteBuffer> mappings;
+
+  /**
+   * Makes a {@code PackedFrameReader} by mapping the given packed file
+   *
+   * @throws IOException If the file is not a packed file, or if a read
+   * operation fails or is interrupted
+   */
+  public PackedFrameReader(String file) throws IOException {
+    this.file = file;
+    try (
+      FileChannel channel = FileChannel.open(
+        Paths.get(file),
+        StandardOpenOption.READ
+      )
+    ) {
+      ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+      byte[] signature = new byte[SIGNATURE.length()];
+      header.get(signature);
+      if (
+        !SIGNATURE.equals(new String(signature, "US-ASCII")) ||
+        header.getInt() != VERSION
+      ) {
+        throw new IOException(file + " Bad signature");
+      }
+      this.start = header.getInt();
+      this.end = header.getInt();
+      int length = header.getInt();
+      if (this.end < this.start || length < 0) {
+        throw new IOException(file + " Bad header");
+      }
+      this.metadata = new byte[length];
+      readFully(channel, HEADER_SIZE, length).get(this.metadata);
+      int count = this.end - this.start + 1;
+      ByteBuffer index = readFully(
+        channel,
+        HEADER_SIZE + length,
+        count * ENTRY_SIZE
+      );
+      this.offsets = new int[count];
+      this.lengths = new int[count];
+      this.regions = new int[count];
+      this.mappings = new ArrayList<>();
+      long base = -1;
+      long limit = -1;
+      for (int frame = 0; frame < count; frame++) {
+        long offset = index.getLong();
+        this.lengths[frame] = index.getInt();
+        if (this.lengths[frame] < 0) {
+          this.lengths[frame] = -1;
+          continue;
+        }
+        if (
+          base < 0 ||
+          offset + this.lengths[frame] - base > Integer.MAX_VALUE
+        ) {
+          if (base >= 0) {
+            this.mappings.add(map(channel, base, limit));
+          }
+          base = offset;
+        }
+        limit = Math.max(limit, offset + this.lengths[frame]);
+        this.offsets[frame] = (int) (offset - base);
+        this.regions[frame] = this.mappings.size();
+      }
+      if (base >= 0) {
+        this.mappings.add(map(channel, base, limit));
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ByteBuffer read(int frame) throws IOException {
+    int index = frame - this.start;
+    if (frame < this.start || frame > this.end || this.lengths[index] < 0) {
+      throw new NoSuchFileException(this.file + ':' + frame);
+    }
+    ByteBuffer out = this.mappings.get(this.regions[index]).duplicate();
+    out.limit(this.offsets[index] + this.lengths[index]);
+    out.position(this.offsets[index]);
+    return out;
+  }
+
+  /** Returns the first frame number */
+  public int getStart() {
+    return this.start;
+  }
+
+  /** Returns the last frame number */
+  public int getEnd() {
+    return this.end;
+  }
+
+  /** Returns a copy of the header metadata */
+  public byte[] getMetadata() {
+    return this.metadata.clone();
+  }
+
+  /** Returns whether the given frame is held */
+  public boolean contains(int frame) {
+    return (
+      frame >= this.start &&
+      frame <= this.end &&
+      this.lengths[frame - this.start] >= 0
+    );
+  }
+
+  /** Maps the given range of the given FileChannel read-only */
+  private static MappedByteBuffer map(FileChannel channel, long from, long to)
+    throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+  }
+
+  /**
+   * Returns a new ByteBuffer with the given number of bytes read from the given
+   * FileChannel at the given position
+   */
+  private static ByteBuffer readFully(
+    FileChannel channel,
+    long position,
+    int length
+  ) throws IOException {
+    ByteBuffer out = ByteBuffer.allocate(length);
+    while (out.hasRemaining()) {
+      int count = channel.read(out, position + out.position());
+      if (count < 0) {
+        throw new IOException("Truncated packed file");
+      }
+    }
+    out.flip();
+    return out;
+  }
+}
@@ -0,0 +1,169 @@
+package eden.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@code PackedFrameWriter} packs the frame files of an image sequence into
+ * one file, so that playing it back costs one open instead of one per frame. A
+ * packed file is laid out as follows, with every number big-endian:
+ *
+ * 1. Signature: the eight ASCII bytes {@code EDENPACK};
+ *
+ * 2. Version: one {@code int}, currently {@value #VERSION};
+ *
+ * 3. Frame range: two {@code ints}, the first and last frame numbers;
+ *
+ * 4. Metadata: one {@code int} length followed by as many bytes, usually the
+ * contents of the sequence metadata file;
+ *
+ * 5. Index: one entry per frame in the range, each a {@code long} offset from
+ * the start of the file and an {@code int} length. Missing frames have a
+ * length of -1;
+ *
+ * 6. Data: the bytes of every frame file, in order, back to back.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see PackedFrameReader
+ */
+public class PackedFrameWriter {
+
+  /** Packed file signature */
+  public static final String SIGNATURE = "EDENPACK";
+  /** Packed file format version */
+  public static final int VERSION = 1;
+  /** Size of the fixed part of the header in bytes */
+  static final int HEADER_SIZE = 8 + 4 + 4 + 4 + 4;
+  /** Size of one index entry in bytes */
+  static final int ENTRY_SIZE = 8 + 4;
+  /** Path to working directory */
+  private final String path;
+  /** Frame file extension */
+  private final String extension;
+  /** First frame to be packed */
+  private final int start;
+  /** Last frame to be packed */
+  private final int end;
+
+  /**
+   * Makes a {@code PackedFrameWriter} with the given parameters
+   *
+   * @param path Path to working directory
+   *
+   * @param extension Frame file extension
+   *
+   * @param start First frame to be packed
+   *
+   * @param end Last frame to be packed
+   */
+  public PackedFrameWriter(String path, String extension, int start, int end) {
+    if (end < start) {
+      throw new IllegalArgumentException();
+    }
+    this.path = path;
+    this.extension = extension;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Packs the frame files into the given file, replacing it if it exists
+   *
+   * @param file Path to the packed file
+   *
+   * @param metadata Bytes to be stored in the header
+   *
+   * @return The number of frames packed
+   *
+   * @throws IOException If a read or write operation fails or is interrupted
+   */
+  public int write(String file, byte[] metadata) throws IOException {
+    int count = this.end - this.start + 1;
+    ByteBuffer index = ByteBuffer.allocate(count * ENTRY_SIZE);
+    int out = 0;
+    try (
+      FileChannel channel = FileChannel.open(
+        Paths.get(file),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE
+      )
+    ) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + metadata.length);
+      header.put(SIGNATURE.getBytes("US-ASCII"));
+      header.putInt(VERSION);
+      header.putInt(this.start);
+      header.putInt(this.end);
+      header.putInt(metadata.length);
+      header.put(metadata);
+      header.flip();
+      writeFully(channel, header, 0);
+      long offset = HEADER_SIZE + metadata.length + (long) index.capacity();
+      for (int frame = this.start; frame <= this.end; frame++) {
+        Path source = Paths.get(this.path + frame + "." + this.extension);
+        if (!Files.isRegularFile(source)) {
+          index.putLong(0);
+          index.putInt(-1);
+          continue;
+        }
+        long length = transfer(source, channel, offset);
+        index.putLong(offset);
+        index.putInt((int) length);
+        offset += length;
+        out++;
+      }
+      index.flip();
+      writeFully(channel, index, HEADER_SIZE + metadata.length);
+    }
+    return out;
+  }
+
+  /**
+   * Copies the given file whole into the given FileChannel at the given
+   * position
+   *
+   * @return The number of bytes copied
+   */
+  private static long transfer(Path source, FileChannel target, long position)
+    throws IOException {
+    try (
+      FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)
+    ) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Frame too large: " + source);
+      }
+      long out = 0;
+      while (out < size) {
+        target.position(position + out);
+        long count = channel.transferTo(out, size - out, target);
+        if (count <= 0) {
+          throw new IOException("Short transfer: " + source);
+        }
+        out += count;
+      }
+      return out;
+    }
+  }
+
+  /**
+   * Writes the remaining bytes of the given ByteBuffer into the given
+   * FileChannel at the given position
+   */
+  private static void writeFully(
+    FileChannel channel,
+    ByteBuffer buffer,
+    long position
+  ) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+}
@@ -1,32 +1,57 @@
 package eden.common.io.active;
 
+import eden.common.io.ChannelFrameReader;
+import eden.common.io.FrameIndex;
+import eden.common.io.FrameReader;
 import eden.common.model.sequence.FileFrameSequence;
 import eden.common.video.EDENFrame;
+import eden.common.video.FrameWindow;
+import eden.common.video.ImageConverter;
+import eden.common.video.ImageDecoder;
+import eden.common.video.ImagePool;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.imageio.IIOException;
-import javax.imageio.ImageIO;
 
 /**
  * A {@code FileFrameLens} reads and decodes image files into its fixed-capacity
- * FIFO buffer with an identifier for each.
+ * FIFO buffer with an identifier for each. Given an {@code ImagePool}, it
+ * decodes into pooled images instead of allocating one per file. Given a {@code
+ * FrameReader}, it reads each file into memory first and decodes from there,
+ * instead of decoding from a file stream. Given a {@code FrameWindow}, it
+ * spends its idle time filling the window, starting against its direction.
+ *
+ * It decodes with source subsampling down to the output size, so that pixels
+ * that are never shown are not decoded either. Told to convert, it also turns
+ * decoded images into display-compatible ones at the output size, so that
+ * painting them is a plain copy. Given proxies, it shows them
+ * instead while scanning, and when it starts paused, it shows the proxy of its
+ * first frame before the frame itself is decoded.
  *
  * @author Brendon
- * @version u0r1, 11/06/2021.
+ * @version u0r7, 10/17/2026.
  *
- * @see ReadAheadLens
+ * @see FrameLens
  */
-public class FileFrameLens extends ReadAheadLens<EDENFrame> {
+public class FileFrameLens extends FrameLens {
 
-  /** Path to working directory */
-  private final String path;
-  /** Working FileFrameSequence */
-  private final FileFrameSequence sequence;
   /** Frame number offset multiplier */
   private final byte offsetFrame;
   /** Frame skip multiplier */
   private final byte offsetSkip;
+  /** ImagePool into whose images files are to be decoded, if any */
+  private final ImagePool pool;
+  /** ImageDecoder with which files are to be decoded on the buffering Thread */
+  private final ImageDecoder decoder;
+  /** ImageConverter with which decoded images are to be converted, if any */
+  private final ImageConverter converter;
+  /** FrameReader with which files are to be read into memory, if any */
+  private final FrameReader reader;
+  /** Last Frame added since the last call, retained, if any */
+  private EDENFrame last;
   /**
    * Indicates whether this FileFrameLens is signalled for a change in behavior
    */
@@ -43,6 +68,12 @@ public class FileFrameLens extends ReadAheadLens<EDENFrame> {
    * buffering Thread's local copy on its next cycle.
    */
   private int skip;
+  /**
+   * This is a buffering parameter that is to be obtained from the working
+   * Sequence on call from outsider Threads, and then assigned onto the
+   * buffering Thread's local copy on its next cycle.
+   */
+  private boolean scanning;
 
   /**
    * Makes a {@code FileFrameLens} with the given path and {@code
@@ -82,11 +113,89 @@ public class FileFrameLens extends ReadAheadLens<EDENFrame> {
     byte offsetFrame,
     byte offsetSkip
   ) {
-    super(capacity);
-    this.path = path;
-    this.sequence = sequence;
+    this(path, sequence, capacity, offsetFrame, offsetSkip, null);
+  }
+
+  /**
+   * Makes a {@code FileFrameLens} with the given parameters
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   */
+  public FileFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    byte offsetFrame,
+    byte offsetSkip,
+    ImagePool pool
+  ) {
+    this(path, sequence, capacity, offsetFrame, offsetSkip, pool, null);
+  }
+
+  /**
+   * Makes a {@code FileFrameLens} with the given parameters
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param reader {@code FrameReader} with which files are to be read into
+   * memory before decoding. It is used only on the buffering {@code Thread}.
+   * Passing {@code null} decodes straight from file streams.
+   */
+  public FileFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    byte offsetFrame,
+    byte offsetSkip,
+    ImagePool pool,
+    FrameReader reader
+  ) {
+    this(
+      path,
+      sequence,
+      capacity,
+      offsetFrame,
+      offsetSkip,
+      pool,
+      reader,
+      false
+    );
+  }
+
+  /**
+   * Makes a {@code FileFrameLens} with the given parameters
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param reader {@code FrameReader} with which files are to be read into
+   * memory before decoding. It is used only on the buffering {@code Thread}.
+   * Passing {@code null} decodes straight from file streams.
+   *
+   * @param convert Whether decoded images are to be converted into ones
+   * compatible with the default screen at the output size, on the buffering
+   * {@code Thread}
+   */
+  public FileFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    byte offsetFrame,
+    byte offsetSkip,
+    ImagePool pool,
+    FrameReader reader,
+    boolean convert
+  ) {
+    super(path, sequence, capacity);
     this.offsetFrame = offsetFrame;
     this.offsetSkip = offsetSkip;
+    this.pool = pool;
+    this.decoder = new ImageDecoder(sequence.getExtension(), pool);
+    this.converter = convert ? new ImageConverter(pool) : null;
+    this.reader = reader;
+    this.last = null;
     this.call = new AtomicBoolean(false);
     updateBufferingParameters();
   }
@@ -101,82 +210,256 @@ public class FileFrameLens extends ReadAheadLens<EDENFrame> {
       while (!Thread.currentThread().isInterrupted()) {
         int skip = this.skip;
         int frame = this.frame;
+        boolean scanning = this.scanning && hasProxies();
+        boolean preview = skip == 0 && this.offsetFrame == 0 && hasProxies();
         while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
-          if (this.call.compareAndSet(true, false)) {
+          if (this.call.get()) {
             clear();
+            remember(null);
+            this.call.set(false);
             break;
           }
           if (
             (this.buffer.size() >= this.capacity) ||
             !this.sequence.isValidPoint(frame)
-          ) try {
-            synchronized (this) {
-              wait();
+          ) {
+            if (!backfill(skip)) {
+              hold();
             }
-          } catch (InterruptedException exception) {
-            return;
+            continue;
           }
-          if (this.call.compareAndSet(true, false)) {
-            clear();
-            break;
+          if (preview) {
+            preview = false;
+            EDENFrame out = fetchPreview(frame);
+            if (out != null) {
+              add(out);
+              continue;
+            }
+          }
+          EDENFrame out =
+            this.last != null && getSource(frame - skip) == getSource(frame)
+              ? this.last.holdAs(frame)
+              : scanning ? fetchProxy(frame) : null;
+          if (out == null && skipOverdue(frame)) {
+            remember(null);
+            frame += skip;
+            continue;
           }
-          try {
-            add(
-              new EDENFrame(
-                ImageIO.read(
-                  new File(
-                    this.path + frame + "." + this.sequence.getExtension()
-                  )
-                ),
-                frame
-              )
-            );
-          } catch (IIOException exception) {
-            add(null);
+          if (out == null) {
+            out = fetch(frame);
           }
+          remember(out);
+          add(out);
           frame += skip;
         }
       }
     } catch (IOException | NullPointerException exception) {
       die(exception);
+    } finally {
+      remember(null);
+      this.decoder.dispose();
     }
   }
 
   /** Signals this {@code FileFrameLens} for a change in behavior */
+  @Override
   public void call() {
     updateBufferingParameters();
     this.call.set(true);
-    synchronized (this) {
-      notifyAll();
-    }
+    wake();
   }
 
   /** Awaits this {@code FileFrameLens} for a change in behavior */
-  public synchronized void await() {
+  @Override
+  public void await() {
+    awaitWhile(() -> this.call.get() || this.buffer.isEmpty());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getSetupTime() {
+    return this.decoder.getSetupTime();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getDecodeTime() {
+    return this.decoder.getDecodeTime();
+  }
+
+  /** Also sets it on the {@code FrameReader} of this {@code FileFrameLens} */
+  @Override
+  public void setIndex(FrameIndex index) {
+    super.setIndex(index);
+    if (this.reader instanceof ChannelFrameReader) {
+      ((ChannelFrameReader) this.reader).setIndex(index);
+    }
+  }
+
+  /**
+   * Returns the {@code ImageDecoder} of this {@code FileFrameLens}, whose
+   * timing statistics describe its recent decodes
+   */
+  public ImageDecoder getDecoder() {
+    return this.decoder;
+  }
+
+  /**
+   * Returns the Frame of the given frame number from the FrameWindow, or
+   * decoded and kept there, or null if its file is missing or cannot be read
+   * or decoded. A held frame shows the Frame of its source.
+   */
+  private EDENFrame fetch(int frame) throws IOException {
+    if (isMissing(frame)) {
+      return null;
+    }
+    int source = getSource(frame);
+    if (source != frame) {
+      EDENFrame held = fetch(source);
+      if (held == null) {
+        return null;
+      }
+      EDENFrame out = held.holdAs(frame);
+      held.recycle();
+      return out;
+    }
+    EDENFrame out = acquire(frame);
+    if (out != null) {
+      return out;
+    }
     try {
-      while (this.call.get() || this.buffer.isEmpty()) {
-        wait();
+      out = decodeFrame(frame);
+    } catch (IIOException | NoSuchFileException exception) {
+      return null;
+    }
+    keep(out);
+    return out;
+  }
+
+  /**
+   * Returns the Frame of the given frame number decoded from its proxy, or null
+   * if its file is missing or it has no proxy that can be read and decoded. A
+   * held frame shows the proxy of its source.
+   */
+  private EDENFrame fetchProxy(int frame) throws IOException {
+    if (isMissing(frame)) {
+      return null;
+    }
+    BufferedImage image = decodeProxy(getSource(frame));
+    if (image == null) {
+      return null;
+    }
+    return new EDENFrame(
+      image,
+      frame,
+      null,
+      Math.max(this.sequence.getWidth() / Math.max(image.getWidth(), 1), 2)
+    );
+  }
+
+  /**
+   * Returns the proxy Frame of the given frame number to be shown before the
+   * frame itself is decoded, or null if it is already kept or has no proxy
+   */
+  private EDENFrame fetchPreview(int frame) throws IOException {
+    EDENFrame kept = acquire(getSource(frame));
+    if (kept != null) {
+      kept.recycle();
+      return null;
+    }
+    return fetchProxy(frame);
+  }
+
+  /**
+   * Decodes one missing frame of the FrameWindow into it alone, nearest to the
+   * point against the given skip first. Frames that are missing or held are
+   * not claimed. A claim that is not put is dropped.
+   *
+   * @return Whether a missing frame was decoded
+   */
+  private boolean backfill(int skip) throws IOException {
+    FrameWindow window = this.window;
+    if (window == null) {
+      return false;
+    }
+    int frame = window.claim(
+      skip,
+      claim -> !isMissing(claim) && getSource(claim) == claim
+    );
+    if (frame == Integer.MIN_VALUE) {
+      return false;
+    }
+    boolean put = false;
+    try {
+      EDENFrame out = decodeFrame(frame);
+      window.put(out);
+      put = true;
+      out.recycle();
+    } catch (IIOException | NoSuchFileException exception) {
+      return false;
+    } finally {
+      if (!put) {
+        window.unclaim(frame);
       }
-    } catch (InterruptedException exception) {}
+    }
+    return true;
+  }
+
+  /** Retains the given Frame as the last one, recycling the one before */
+  private void remember(EDENFrame frame) {
+    if (this.last != null) {
+      this.last.recycle();
+    }
+    this.last = frame != null ? frame.retain() : null;
   }
 
   /**
-   * Returns the vectorized identifier of the front most {@code Frame} in the
-   * FIFO buffer of this {@code FileFrameLens}. If the buffer is empty or the
-   * front most {@code Frame} is {@code null}, then the maximum {@code int} is
-   * returned.
+   * Reads and decodes the file of the given frame into a new Frame, subsampled
+   * down to the output size, then converted and scaled down to it if there is
+   * an ImageConverter
    */
-  public int getNextIdentifier() {
-    EDENFrame frame;
-    synchronized (this) {
-      frame = this.buffer.peek();
+  private EDENFrame decodeFrame(int frame) throws IOException {
+    this.decoder.setSubsampling(getSubsampling());
+    BufferedImage image = decode(frame);
+    if (this.converter != null) {
+      image =
+        this.converter.convert(image, this.outputWidth, this.outputHeight);
+    }
+    return new EDENFrame(image, frame, this.pool, getSubsampling(image));
+  }
+
+  /** Reads and decodes the file of the given frame */
+  private BufferedImage decode(int frame) throws IOException {
+    if (this.reader != null) {
+      return this.decoder.decode(this.reader, frame);
     }
-    if (frame == null) {
-      return this.sequence.getSkip() >= 0
-        ? Integer.MAX_VALUE
-        : Integer.MIN_VALUE;
-    } else {
-      return frame.getIdentifier();
+    return this.decoder.decode(
+        new File(this.path + frame + "." + this.sequence.getExtension())
+      );
+  }
+
+  /**
+   * Reads and decodes the proxy of the given frame from the proxy directory,
+   * or else the thumbnail embedded in its file, or returns null if neither can
+   * be read and decoded
+   */
+  private BufferedImage decodeProxy(int frame) throws IOException {
+    String proxy = this.proxy;
+    this.decoder.setSubsampling(1);
+    try {
+      if (proxy != null) {
+        return this.decoder.decode(
+            new File(proxy + frame + "." + this.sequence.getExtension())
+          );
+      }
+      if (this.reader != null) {
+        return this.decoder.readThumbnail(this.reader, frame);
+      }
+      return this.decoder.readThumbnail(
+          new File(this.path + frame + "." + this.sequence.getExtension())
+        );
+    } catch (IIOException | NoSuchFileException exception) {
+      return null;
     }
   }
 
@@ -188,5 +471,6 @@ public class FileFrameLens extends ReadAheadLens<EDENFrame> {
     this.frame =
       this.sequence.getPoint() + (this.sequence.getSkip() * this.offsetFrame);
     this.skip = this.sequence.getSkip() * (1 + this.offsetSkip);
+    this.scanning = isScanning(this.sequence.getSkip());
   }
 }
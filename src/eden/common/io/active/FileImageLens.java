@@ -1,19 +1,19 @@
 package eden.common.io.active;
 
 import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.ImageDecoder;
 import java.awt.Image;
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.imageio.IIOException;
-import javax.imageio.ImageIO;
 
 /**
  * A {@code FileImageLens} reads and decodes image files into its fixed-capacity
  * FIFO buffer.
  *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  *
  * @see ReadAheadLens
  */
@@ -23,6 +23,8 @@ public class FileImageLens extends ReadAheadLens<Image> {
   private final String path;
   /** Working Sequence */
   private final FileFrameSequence sequence;
+  /** ImageDecoder with which files are to be decoded on the buffering Thread */
+  private final ImageDecoder decoder;
   /**
    * Indicates whether this FileImageLens is signalled for a change in behavior
    */
@@ -48,6 +50,7 @@ public class FileImageLens extends ReadAheadLens<Image> {
     super(capacity);
     this.path = path;
     this.sequence = sequence;
+    this.decoder = new ImageDecoder(sequence.getExtension());
     this.call = new AtomicBoolean(false);
   }
 
@@ -69,22 +72,17 @@ public class FileImageLens extends ReadAheadLens<Image> {
           if (
             (this.buffer.size() >= this.capacity) ||
             !this.sequence.isValidPoint(frame)
-          ) try {
-            synchronized (this) {
-              wait();
-            }
-          } catch (InterruptedException exception) {
-            return;
-          }
-          if (this.call.get()) {
-            reset();
-            break;
+          ) {
+            hold();
+            continue;
           }
           try {
             add(
-              ImageIO.read(
-                new File(this.path + frame + "." + this.sequence.getExtension())
-              )
+              this.decoder.decode(
+                  new File(
+                    this.path + frame + "." + this.sequence.getExtension()
+                  )
+                )
             );
           } catch (IIOException exception) {
             add(null);
@@ -94,29 +92,33 @@ public class FileImageLens extends ReadAheadLens<Image> {
       }
     } catch (IOException | NullPointerException exception) {
       die(exception);
+    } finally {
+      this.decoder.dispose();
     }
   }
 
   /** Signals this {@code FileImageLens} for a change in behavior */
   public void call() {
     this.call.set(true);
-    synchronized (this) {
-      notifyAll();
-    }
+    wake();
   }
 
   /** Awaits this {@code FileImageLens} for a change in behavior */
-  public synchronized void await() {
-    try {
-      while (this.call.get() || this.buffer.isEmpty()) {
-        wait();
-      }
-    } catch (InterruptedException exception) {}
+  public void await() {
+    awaitWhile(() -> this.call.get() || this.buffer.isEmpty());
+  }
+
+  /**
+   * Returns the {@code ImageDecoder} of this {@code FileImageLens}, whose
+   * timing statistics describe its recent decodes
+   */
+  public ImageDecoder getDecoder() {
+    return this.decoder;
   }
 
   /** Resets the buffering operation */
   private void reset() {
-    this.call.set(false);
     clear();
+    this.call.set(false);
   }
 }
@@ -0,0 +1,401 @@
+package eden.common.io.active;
+
+import eden.common.io.FrameIndex;
+import eden.common.io.HoldMap;
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.EDENFrame;
+import eden.common.video.FrameCache;
+import eden.common.video.FrameWindow;
+import java.awt.Image;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@code FrameLens} buffers the {@code Frames} of a {@code FileFrameSequence}
+ * ahead of its point, in the direction of its skip. It is what renderers and
+ * workers see of a lens, regardless of how its {@code Frames} are read and
+ * decoded.
+ *
+ * Given a {@code FrameWindow} or a {@code FrameCache}, it serves the {@code
+ * Frames} kept there instead of decoding them again, and keeps the ones it
+ * decodes there. Given a {@code FrameIndex}, it skips the frames known to be
+ * missing. Given a {@code HoldMap}, it serves held frames by the images of
+ * their sources. Given an output size, it need not decode frames any larger
+ * than that, and kept frames smaller than it are decoded again. Given a proxy
+ * directory of small copies of its frames, or told to use embedded thumbnails,
+ * it may show those instead.
+ *
+ * Every {@code Frame} it buffers carries its presentation time, going by the
+ * rate of its {@code FileFrameSequence}. Given a master clock, it skips
+ * decoding frames that would be more than a frame late once decoded.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see ReadAheadLens
+ */
+public abstract class FrameLens extends ReadAheadLens<EDENFrame> {
+
+  /** Largest source subsampling factor */
+  public static final int MAX_SUBSAMPLING = 8;
+
+  /** Path to working directory */
+  protected final String path;
+  /** Working FileFrameSequence */
+  protected final FileFrameSequence sequence;
+  /** FrameWindow in which decoded Frames are to be kept, if any */
+  protected volatile FrameWindow window;
+  /** FrameCache in which decoded Frames are to be kept, if any */
+  protected volatile FrameCache cache;
+  /** FrameIndex by which missing frames are skipped, if any */
+  protected volatile FrameIndex index;
+  /** HoldMap by which held frames reuse their sources, if any */
+  protected volatile HoldMap holds;
+  /** Output width in pixels, or 0 if unknown */
+  protected volatile int outputWidth;
+  /** Output height in pixels, or 0 if unknown */
+  protected volatile int outputHeight;
+  /** Path to the directory of proxy frame files, if any */
+  protected volatile String proxy;
+  /** Indicates whether thumbnails embedded in frames are to be proxies */
+  protected volatile boolean thumbnails;
+  /** Supplier of the media time in seconds of the frame due now, if any */
+  protected volatile DoubleSupplier master;
+  /** Number of frames skipped for being overdue */
+  private final AtomicLong skipped;
+
+  /**
+   * Makes a {@code FrameLens} with the given path, {@code FileFrameSequence},
+   * and buffer capacity in number of {@code Frames}
+   */
+  public FrameLens(String path, FileFrameSequence sequence, short capacity) {
+    super(capacity);
+    this.path = path;
+    this.sequence = sequence;
+    this.window = null;
+    this.cache = null;
+    this.index = null;
+    this.holds = null;
+    this.outputWidth = 0;
+    this.outputHeight = 0;
+    this.proxy = null;
+    this.thumbnails = false;
+    this.master = null;
+    this.skipped = new AtomicLong(0);
+  }
+
+  /** Signals this {@code FrameLens} for a change in behavior */
+  public abstract void call();
+
+  /** Awaits this {@code FrameLens} for a change in behavior */
+  public abstract void await();
+
+  /**
+   * Returns the smoothed setup time per decode of this {@code FrameLens} in
+   * nanoseconds
+   */
+  public abstract long getSetupTime();
+
+  /**
+   * Returns the smoothed decode time per decode of this {@code FrameLens} in
+   * nanoseconds, excluding setup
+   */
+  public abstract long getDecodeTime();
+
+  /** Returns the {@code FrameWindow} of this {@code FrameLens}, if any */
+  public FrameWindow getWindow() {
+    return this.window;
+  }
+
+  /**
+   * Sets the {@code FrameWindow} in which decoded {@code Frames} are to be
+   * kept. Passing {@code null} disables it.
+   */
+  public void setWindow(FrameWindow window) {
+    this.window = window;
+  }
+
+  /** Returns the {@code FrameCache} of this {@code FrameLens}, if any */
+  public FrameCache getCache() {
+    return this.cache;
+  }
+
+  /**
+   * Sets the {@code FrameCache} in which decoded {@code Frames} are to be kept.
+   * Passing {@code null} disables it.
+   */
+  public void setCache(FrameCache cache) {
+    this.cache = cache;
+  }
+
+  /** Returns the {@code FrameIndex} of this {@code FrameLens}, if any */
+  public FrameIndex getIndex() {
+    return this.index;
+  }
+
+  /**
+   * Sets the {@code FrameIndex} by which frames known to be missing are to be
+   * skipped without touching the file system. Passing {@code null} disables
+   * it.
+   */
+  public void setIndex(FrameIndex index) {
+    this.index = index;
+  }
+
+  /** Returns the {@code HoldMap} of this {@code FrameLens}, if any */
+  public HoldMap getHolds() {
+    return this.holds;
+  }
+
+  /**
+   * Sets the {@code HoldMap} by which held frames are to be served by the
+   * images of their sources instead of being decoded. Passing {@code null}
+   * disables it.
+   */
+  public void setHolds(HoldMap holds) {
+    this.holds = holds;
+  }
+
+  /**
+   * Sets the size in pixels at which {@code Frames} are shown, which bounds how
+   * far they may be subsampled. It takes effect on the next decode.
+   */
+  public void setOutputSize(int width, int height) {
+    this.outputWidth = width;
+    this.outputHeight = height;
+  }
+
+  /**
+   * Returns the path to the directory of proxy frame files of this {@code
+   * FrameLens}, if any
+   */
+  public String getProxy() {
+    return this.proxy;
+  }
+
+  /**
+   * Sets the path to a directory of small copies of the frame files, with the
+   * same names, to be shown while scanning and before a frame is decoded on a
+   * jump. Passing {@code null} disables it.
+   */
+  public void setProxy(String proxy) {
+    this.proxy = proxy;
+  }
+
+  /**
+   * Returns whether thumbnails embedded in frames are to be proxies when there
+   * is no proxy directory
+   */
+  public boolean isThumbnails() {
+    return this.thumbnails;
+  }
+
+  /**
+   * Sets whether thumbnails embedded in frames are to be proxies when there is
+   * no proxy directory
+   */
+  public void setThumbnails(boolean thumbnails) {
+    this.thumbnails = thumbnails;
+  }
+
+  /**
+   * Sets the master clock, a supplier of the media time in seconds of the
+   * frame due now, or of {@code NaN} if none is, by which frames that would be
+   * more than a frame late once decoded are skipped. Passing {@code null}
+   * disables it.
+   */
+  public void setMasterClock(DoubleSupplier master) {
+    this.master = master;
+  }
+
+  /**
+   * Returns the media time in seconds at which the given frame is due, going by
+   * the rate of the working {@code FileFrameSequence}
+   */
+  public double getPresentationTime(int frame) {
+    return (
+      (double) (frame - this.sequence.getStart()) / this.sequence.getRate()
+    );
+  }
+
+  /** Returns the number of frames skipped for being overdue */
+  public long getSkipped() {
+    return this.skipped.get();
+  }
+
+  /** Returns whether this {@code FrameLens} has proxies to show */
+  public boolean hasProxies() {
+    return this.proxy != null || this.thumbnails;
+  }
+
+  /**
+   * Stamps the given Frame, if any, with its presentation time, then adds it to
+   * the FIFO buffer of this FrameLens
+   */
+  @Override
+  protected void add(EDENFrame frame) {
+    if (frame != null) {
+      frame.setPresentationTime(getPresentationTime(frame.getIdentifier()));
+    }
+    super.add(frame);
+  }
+
+  /**
+   * Returns whether the given frame is to be skipped because, by the master
+   * clock and the recent decode time, it would be more than a frame late by
+   * the time it is decoded, counting it if so
+   */
+  protected boolean skipOverdue(int frame) {
+    DoubleSupplier master = this.master;
+    double now = master != null ? master.getAsDouble() : Double.NaN;
+    if (
+      Double.isNaN(now) ||
+      getPresentationTime(frame + 1) >=
+      now + (getSetupTime() + getDecodeTime()) / 1000000000.0
+    ) {
+      return false;
+    }
+    this.skipped.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Returns whether the given skip scans, which it does unless it pauses or
+   * plays forward
+   */
+  protected static boolean isScanning(int skip) {
+    return skip != 0 && skip != 1;
+  }
+
+  /**
+   * Returns the source subsampling factor with which frames are to be decoded
+   * to cover the output size of this {@code FrameLens}, which is 1 if it is
+   * unknown
+   */
+  public int getSubsampling() {
+    return getSubsampling(
+      this.sequence.getWidth(),
+      this.sequence.getHeight(),
+      this.outputWidth,
+      this.outputHeight
+    );
+  }
+
+  /**
+   * Returns the largest power-of-two source subsampling factor, up to {@value
+   * #MAX_SUBSAMPLING}, that keeps images of the given source size at or above
+   * the given output size, which is 1 if the output size is unknown. Powers of
+   * two line up with the 8-pixel blocks of JPEG, and step between quality
+   * levels less often as the output size changes.
+   */
+  public static int getSubsampling(
+    int sourceWidth,
+    int sourceHeight,
+    int outputWidth,
+    int outputHeight
+  ) {
+    if (outputWidth <= 0 || outputHeight <= 0) {
+      return 1;
+    }
+    int out = Math.min(sourceWidth / outputWidth, sourceHeight / outputHeight);
+    return Integer.highestOneBit(Math.max(Math.min(out, MAX_SUBSAMPLING), 1));
+  }
+
+  /**
+   * Returns the factor by which the given image is smaller than the frames of
+   * the working Sequence, rounded up, which is 1 if it is not or null
+   */
+  protected int getSubsampling(Image image) {
+    int width = image != null ? image.getWidth(null) : -1;
+    int height = image != null ? image.getHeight(null) : -1;
+    if (width <= 0 || height <= 0) {
+      return 1;
+    }
+    return Math.max(
+      Math.max(
+        (this.sequence.getWidth() + width - 1) / width,
+        (this.sequence.getHeight() + height - 1) / height
+      ),
+      1
+    );
+  }
+
+  /**
+   * Returns the frame whose image the given frame shows according to the
+   * HoldMap of this FrameLens, which is the given frame itself if there is none
+   */
+  protected int getSource(int frame) {
+    HoldMap holds = this.holds;
+    return holds != null ? holds.getSource(frame) : frame;
+  }
+
+  /** Returns whether the FrameIndex of this FrameLens lacks the given frame */
+  protected boolean isMissing(int frame) {
+    FrameIndex index = this.index;
+    return index != null && !index.contains(frame);
+  }
+
+  /**
+   * Returns the kept Frame of the given frame number from the FrameWindow or
+   * the FrameCache of this FrameLens, or null if there is none that covers the
+   * output size. Frames found only in the FrameCache are put into the
+   * FrameWindow.
+   */
+  protected EDENFrame acquire(int frame) {
+    FrameWindow window = this.window;
+    EDENFrame out = window != null ? fit(window.acquire(frame)) : null;
+    if (out != null) {
+      return out;
+    }
+    FrameCache cache = this.cache;
+    out = cache != null ? fit(cache.acquire(this.path, frame)) : null;
+    if (out != null && window != null) {
+      window.put(out);
+    }
+    return out;
+  }
+
+  /**
+   * Returns the given Frame if it covers the output size, or else recycles it
+   * and returns null
+   */
+  private EDENFrame fit(EDENFrame frame) {
+    if (frame == null || frame.covers(this.outputWidth, this.outputHeight)) {
+      return frame;
+    }
+    frame.recycle();
+    return null;
+  }
+
+  /**
+   * Keeps the given Frame in the FrameWindow and the FrameCache of this
+   * FrameLens, if any
+   */
+  protected void keep(EDENFrame frame) {
+    FrameWindow window = this.window;
+    if (window != null) {
+      window.put(frame);
+    }
+    FrameCache cache = this.cache;
+    if (cache != null) {
+      cache.put(this.path, frame);
+    }
+  }
+
+  /**
+   * Returns the vectorized identifier of the front most {@code Frame} in the
+   * FIFO buffer of this {@code FrameLens}. If the buffer is empty or the front
+   * most {@code Frame} is {@code null}, then the maximum {@code int} is
+   * returned.
+   */
+  public int getNextIdentifier() {
+    EDENFrame frame = this.buffer.peek();
+    if (frame == null) {
+      return this.sequence.getSkip() >= 0
+        ? Integer.MAX_VALUE
+        : Integer.MIN_VALUE;
+    } else {
+      return frame.getIdentifier();
+    }
+  }
+}
@@ -0,0 +1,371 @@
+package eden.common.io.active;
+
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.EDENFrame;
+import eden.common.video.ImagePool;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOException;
+
+/**
+ * A {@code ParallelFrameLens} decodes image files on several {@code Threads} at
+ * once, which finish them in any order. Its buffering {@code Thread} restores
+ * the reading order through a reorder buffer keyed by ticket, then feeds the
+ * FIFO buffer.
+ *
+ * Frames found in the {@code FrameWindow} or the {@code FrameCache} skip
+ * decoding and travel as they are. Held frames travel as their sources, and
+ * show their images once ordered. Those held over from the frame before them
+ * are not decoded at all, and show the image of that frame instead. If that
+ * frame turns out not to have been served, they show their sources on their
+ * own.
+ *
+ * Every call starts a new generation of work. Work of older generations still
+ * in flight is dropped by whichever side holds it.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see FrameLens
+ */
+public abstract class ParallelFrameLens extends FrameLens {
+
+  /** ImagePool into whose images files are to be decoded, if any */
+  protected final ImagePool pool;
+  /** Generation of work that is to be done */
+  protected final AtomicInteger generation;
+  /** Frame from which the current generation reads */
+  protected volatile int frame;
+  /** Frame skip of the current generation */
+  protected volatile int skip;
+  /** Queue of decoded images to be ordered into the FIFO buffer */
+  private final BlockingQueue<Packet> ready;
+  /** Decoded images that arrived ahead of their turn, by ticket */
+  private final Map<Integer, Packet> pending;
+  /** Generation of work held by the FIFO buffer */
+  private volatile int served;
+  /** Ticket of the next image to enter the FIFO buffer */
+  private volatile int next;
+  /** Last Frame to enter the FIFO buffer, retained, if any */
+  private EDENFrame last;
+
+  /**
+   * Makes a {@code ParallelFrameLens} with the given parameters
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param ready Capacity of the queue of decoded images in number of images
+   */
+  public ParallelFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    ImagePool pool,
+    int ready
+  ) {
+    super(path, sequence, capacity);
+    this.pool = pool;
+    this.generation = new AtomicInteger(0);
+    this.ready = new ArrayBlockingQueue<>(ready);
+    this.pending = new HashMap<>();
+    this.served = 0;
+    this.next = 0;
+    this.last = null;
+    updateBufferingParameters();
+  }
+
+  /**
+   * Runs this {@code ParallelFrameLens}. Its decoding {@code Threads} are
+   * started here and stopped once it ends.
+   */
+  @Override
+  public void run() {
+    if (this.dead.get()) {
+      return;
+    }
+    start();
+    try {
+      while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
+        int generation = this.generation.get();
+        if (generation != this.served) {
+          restart(generation);
+          continue;
+        }
+        Packet packet;
+        while ((packet = this.ready.poll()) != null) {
+          if (packet.generation - this.served > 0) {
+            restart(packet.generation);
+          }
+          if (packet.generation == this.served) {
+            this.pending.put(packet.ticket, packet);
+          } else {
+            recycle(packet);
+          }
+        }
+        feed();
+        if (
+          (this.buffer.size() >= this.capacity) ||
+          (packet = this.pending.remove(this.next)) == null
+        ) {
+          hold();
+          continue;
+        }
+        if (packet.deferred && this.last == null) {
+          undefer(packet);
+        }
+        if (packet.overdue) {
+          recycle(packet);
+          remember(null);
+          this.next++;
+          advanced();
+          continue;
+        }
+        EDENFrame frame = toFrame(packet);
+        remember(frame);
+        add(frame);
+        this.next++;
+        advanced();
+      }
+    } catch (IOException | RuntimeException exception) {
+      die(exception);
+    } finally {
+      remember(null);
+      stop();
+    }
+  }
+
+  /** Signals this {@code ParallelFrameLens} for a change in behavior */
+  @Override
+  public void call() {
+    updateBufferingParameters();
+    this.generation.incrementAndGet();
+    called();
+    wake();
+  }
+
+  /** Awaits this {@code ParallelFrameLens} for a change in behavior */
+  @Override
+  public void await() {
+    awaitWhile(() ->
+      this.served != this.generation.get() || this.buffer.isEmpty()
+    );
+  }
+
+  /** Starts the decoding Threads on the buffering Thread */
+  protected abstract void start();
+
+  /** Stops the decoding Threads on the buffering Thread */
+  protected abstract void stop();
+
+  /**
+   * Hands out more work, if any, on the buffering Thread. It is called on every
+   * cycle. The default implementation does nothing.
+   */
+  protected void feed() {}
+
+  /**
+   * Reacts to an image entering the FIFO buffer on the buffering Thread. The
+   * default implementation does nothing.
+   */
+  protected void advanced() {}
+
+  /**
+   * Reacts to a call on the calling Thread, after the generation has been
+   * advanced. The default implementation does nothing.
+   */
+  protected void called() {}
+
+  /**
+   * Reacts to the buffering Thread starting to serve the given generation. The
+   * default implementation does nothing.
+   */
+  protected void restarted(int generation) {}
+
+  /**
+   * Hands the given decoded Packet over to the buffering Thread, blocking while
+   * the queue of decoded images is full
+   */
+  protected void deliver(Packet packet) throws InterruptedException {
+    this.ready.put(packet);
+    wake();
+  }
+
+  /**
+   * Decodes the file of the given frame on the buffering Thread, for a held
+   * frame whose source was not served before it. The default implementation
+   * decodes nothing and returns null.
+   *
+   * @throws IOException If a read operation fails or is interrupted
+   */
+  protected BufferedImage decodeSource(int frame) throws IOException {
+    return null;
+  }
+
+  /**
+   * Returns whether the given frame at the given ticket shows the same image as
+   * the frame before it in the same generation, as read with the given skip,
+   * according to the HoldMap, and that frame is not missing. Such a frame need
+   * not be decoded.
+   */
+  protected boolean isHeldOver(int ticket, int frame, int skip) {
+    return (
+      ticket > 0 &&
+      !isMissing(frame - skip) &&
+      getSource(frame - skip) == getSource(frame)
+    );
+  }
+
+  /**
+   * Returns the number of images that entered the FIFO buffer in the
+   * generation being served
+   */
+  protected int getServed() {
+    return this.next;
+  }
+
+  /** Recycles the Frame or image held by the given Packet */
+  protected void recycle(Packet packet) {
+    if (packet.cached != null) {
+      packet.cached.recycle();
+    } else {
+      recycle(packet.image);
+    }
+  }
+
+  /** Returns the given image to the ImagePool of this ParallelFrameLens */
+  protected void recycle(BufferedImage image) {
+    if (this.pool != null && image != null) {
+      this.pool.release(image);
+    }
+  }
+
+  /**
+   * Drops the FIFO buffer and pending images, then serves the given generation
+   */
+  private void restart(int generation) {
+    clear();
+    this.pending.values().forEach(this::recycle);
+    this.pending.clear();
+    this.next = 0;
+    remember(null);
+    this.served = generation;
+    restarted(generation);
+  }
+
+  /**
+   * Makes the given deferred Packet, whose frame before was not served, show
+   * the image of its source on its own, kept or else decoded, unless it is
+   * overdue itself
+   */
+  private void undefer(Packet packet) throws IOException {
+    packet.deferred = false;
+    packet.overdue = skipOverdue(packet.frame);
+    if (packet.overdue) {
+      return;
+    }
+    packet.cached = acquire(packet.source);
+    if (packet.cached != null) {
+      return;
+    }
+    try {
+      packet.image = decodeSource(packet.source);
+    } catch (IIOException | NoSuchFileException exception) {
+      packet.image = null;
+    }
+  }
+
+  /**
+   * Returns the Frame held by the given Packet, or a new one with its image
+   * kept in the FrameWindow, or null if it has neither. A held frame shows the
+   * Frame of its source.
+   */
+  private EDENFrame toFrame(Packet packet) {
+    if (packet.deferred) {
+      return this.last != null ? this.last.holdAs(packet.frame) : null;
+    }
+    EDENFrame out = packet.cached;
+    if (out == null && packet.image != null) {
+      out =
+        new EDENFrame(
+          packet.image,
+          packet.source,
+          this.pool,
+          getSubsampling(packet.image)
+        );
+      keep(out);
+    }
+    if (out == null || packet.source == packet.frame) {
+      return out;
+    }
+    EDENFrame held = out.holdAs(packet.frame);
+    out.recycle();
+    return held;
+  }
+
+  /** Retains the given Frame as the last one, recycling the one before */
+  private void remember(EDENFrame frame) {
+    if (this.last != null) {
+      this.last.recycle();
+    }
+    this.last = frame != null ? frame.retain() : null;
+  }
+
+  /**
+   * Updates the buffering parameters from the working Sequence of this
+   * ParallelFrameLens
+   */
+  private void updateBufferingParameters() {
+    this.frame = this.sequence.getPoint();
+    this.skip = this.sequence.getSkip();
+  }
+
+  /** A file on its way to the FIFO buffer */
+  protected static final class Packet {
+
+    /** Generation of work to which this Packet belongs */
+    final int generation;
+    /** Position of this Packet in the reading order of its generation */
+    final int ticket;
+    /** Frame number */
+    final int frame;
+    /** Number of the frame whose image is to be shown */
+    final int source;
+    /** Bytes of the file, if read ahead and not yet decoded */
+    ByteBuffer data;
+    /** Decoded image, if any */
+    BufferedImage image;
+    /** Frame served by the FrameWindow or the FrameCache, if any */
+    EDENFrame cached;
+    /** Indicates whether this Packet shows the image of the one before it */
+    boolean deferred;
+    /** Indicates whether this Packet is skipped for being overdue */
+    boolean overdue;
+
+    /** Makes a Packet with the given parameters */
+    Packet(
+      int generation,
+      int ticket,
+      int frame,
+      int source,
+      ByteBuffer data
+    ) {
+      this.generation = generation;
+      this.ticket = ticket;
+      this.frame = frame;
+      this.source = source;
+      this.data = data;
+      this.image = null;
+      this.cached = null;
+      this.deferred = false;
+      this.overdue = false;
+    }
+  }
+}
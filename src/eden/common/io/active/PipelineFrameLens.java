@@ -0,0 +1,381 @@
+package eden.common.io.active;
+
+import eden.common.io.ByteBufferImageInputStream;
+import eden.common.io.ChannelFrameReader;
+import eden.common.io.FrameIndex;
+import eden.common.io.FrameReader;
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.ImageConverter;
+import eden.common.video.ImageDecoder;
+import eden.common.video.ImagePool;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import javax.imageio.IIOException;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * A {@code PipelineFrameLens} reads and decodes image files into its
+ * fixed-capacity FIFO buffer through a pipeline of stages, each on its own
+ * {@code Threads} and fed by its own bounded queue:
+ *
+ * 1. Read: one {@code Thread} prefetches the bytes of upcoming files into
+ * buffers reused once they are decoded;
+ *
+ * 2. Decode: a pool of {@code Threads} decodes them, each with its own {@code
+ * ImageDecoder}, subsampled down to the output size;
+ *
+ * 3. Convert: optionally, one {@code Thread} converts decoded images into
+ * display-compatible ones at the output size with an {@code ImageConverter}.
+ *
+ * A slow disk then no longer stalls decoding, nor does a slow decode stall
+ * I/O.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see ParallelFrameLens
+ */
+public class PipelineFrameLens extends ParallelFrameLens {
+
+  /** Default number of decoding {@code Threads} */
+  public static final byte DEFAULT_DECODERS = 2;
+  /** Stage queue capacity per decoding Thread in number of files */
+  private static final int STAGE_CAPACITY = 2;
+  /** FrameReader with which files are to be read on the reading Thread */
+  private final FrameReader reader;
+  /** ImageConverter with which decoded images are to be converted, if any */
+  private final ImageConverter converter;
+  /** ImageDecoders, one for each decoding Thread */
+  private final List<ImageDecoder> decoders;
+  /** Queue of read files to be decoded */
+  private final BlockingQueue<Packet> encoded;
+  /** Buffers of decoded files, ready to be read into again */
+  private final BlockingQueue<ByteBuffer> buffers;
+  /** Queue of decoded images to be converted, if there is a converter */
+  private final BlockingQueue<Packet> decoded;
+  /** Maximum number of files read ahead of the FIFO buffer */
+  private final int window;
+  /** Thread on which files are read */
+  private volatile Thread reading;
+  /** Threads of every stage */
+  private List<Thread> stages;
+
+  /**
+   * Makes a {@code PipelineFrameLens} with the given path and {@code
+   * FileFrameSequence}
+   */
+  public PipelineFrameLens(String path, FileFrameSequence sequence) {
+    this(path, sequence, DEFAULT_CAPACITY, DEFAULT_DECODERS, null, null, false);
+  }
+
+  /**
+   * Makes a {@code PipelineFrameLens} with the given parameters
+   *
+   * @param decoders Number of decoding {@code Threads}
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param reader {@code FrameReader} with which files are to be read. It is
+   * used only on the reading {@code Thread}. Passing {@code null} reads files
+   * into a direct buffer.
+   *
+   * @param convert Whether decoded images are to be converted into ones
+   * compatible with the default screen at the output size
+   */
+  public PipelineFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    byte decoders,
+    ImagePool pool,
+    FrameReader reader,
+    boolean convert
+  ) {
+    super(
+      path,
+      sequence,
+      capacity,
+      pool,
+      (decoders > 0 ? decoders : DEFAULT_DECODERS) * STAGE_CAPACITY
+    );
+    int size = decoders > 0 ? decoders : DEFAULT_DECODERS;
+    List<ImageDecoder> list = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      list.add(new ImageDecoder(sequence.getExtension(), pool));
+    }
+    this.reader =
+      reader != null
+        ? reader
+        : new ChannelFrameReader(path, sequence.getExtension());
+    this.converter = convert ? new ImageConverter(pool) : null;
+    this.decoders = Collections.unmodifiableList(list);
+    this.encoded = new ArrayBlockingQueue<>(size * STAGE_CAPACITY);
+    this.buffers = new ArrayBlockingQueue<>(size * (STAGE_CAPACITY + 1) + 1);
+    this.decoded =
+      this.converter != null
+        ? new ArrayBlockingQueue<>(size * STAGE_CAPACITY)
+        : null;
+    this.window = size * STAGE_CAPACITY * 3;
+    this.reading = null;
+    this.stages = Collections.emptyList();
+  }
+
+  /** Starts the stage Threads, named after the buffering Thread */
+  @Override
+  protected void start() {
+    String name = Thread.currentThread().getName();
+    List<Thread> stages = new ArrayList<>(this.decoders.size() + 2);
+    Thread reading = new Thread(this::read, name + "/Read");
+    stages.add(reading);
+    for (int index = 0; index < this.decoders.size(); index++) {
+      ImageDecoder decoder = this.decoders.get(index);
+      stages.add(
+        new Thread(() -> decode(decoder), name + "/Decode[" + index + "]")
+      );
+    }
+    if (this.converter != null) {
+      stages.add(new Thread(this::convert, name + "/Convert"));
+    }
+    stages.forEach(thread -> thread.setDaemon(true));
+    this.reading = reading;
+    this.stages = stages;
+    stages.forEach(Thread::start);
+  }
+
+  /** Interrupts the stage Threads */
+  @Override
+  protected void stop() {
+    this.stages.forEach(Thread::interrupt);
+  }
+
+  /**
+   * Wakes the reading Thread. Unread work of older generations is left for the
+   * decoding Threads to drop, as the reading Thread may already have queued
+   * work of the new one.
+   */
+  @Override
+  protected void called() {
+    unparkReading();
+  }
+
+  /** Wakes the reading Thread, which may read further ahead */
+  @Override
+  protected void advanced() {
+    unparkReading();
+  }
+
+  /** Wakes the reading Thread, which may read for the new generation */
+  @Override
+  protected void restarted(int generation) {
+    unparkReading();
+  }
+
+  /**
+   * Also sets it on the {@code FrameReader} of this {@code PipelineFrameLens}
+   */
+  @Override
+  public void setIndex(FrameIndex index) {
+    super.setIndex(index);
+    if (this.reader instanceof ChannelFrameReader) {
+      ((ChannelFrameReader) this.reader).setIndex(index);
+    }
+  }
+
+  /** Returns the mean of the setup times of the decoding {@code Threads} */
+  @Override
+  public long getSetupTime() {
+    long out = 0;
+    for (ImageDecoder decoder : this.decoders) {
+      out += decoder.getSetupTime();
+    }
+    return out / this.decoders.size();
+  }
+
+  /** Returns the mean of the decode times of the decoding {@code Threads} */
+  @Override
+  public long getDecodeTime() {
+    long out = 0;
+    for (ImageDecoder decoder : this.decoders) {
+      out += decoder.getDecodeTime();
+    }
+    return out / this.decoders.size();
+  }
+
+  /** Returns the number of decoding {@code Threads} */
+  public int getDecoders() {
+    return this.decoders.size();
+  }
+
+  /** Returns whether decoded images are converted */
+  public boolean isConverting() {
+    return this.converter != null;
+  }
+
+  /**
+   * Reads files in order on the reading Thread. Frames are deferred to the
+   * ones before them only if those were read or kept.
+   */
+  private void read() {
+    try {
+      while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
+        int generation = this.generation.get();
+        int frame = this.frame;
+        int skip = this.skip;
+        int ticket = 0;
+        boolean served = false;
+        while (
+          generation == this.generation.get() &&
+          !Thread.currentThread().isInterrupted()
+        ) {
+          if (
+            !this.sequence.isValidPoint(frame) ||
+            ticket - getServed() >= this.window
+          ) {
+            LockSupport.park(this);
+            continue;
+          }
+          Packet packet = new Packet(
+            generation,
+            ticket,
+            frame,
+            getSource(frame),
+            null
+          );
+          packet.deferred = served && isHeldOver(ticket, frame, skip);
+          ticket++;
+          packet.overdue =
+            !isMissing(frame) && !packet.deferred && skipOverdue(frame);
+          if (!isMissing(frame) && !packet.deferred && !packet.overdue) {
+            packet.cached = acquire(packet.source);
+            if (packet.cached == null) {
+              packet.data = fetch(packet.source);
+            }
+          }
+          served =
+            packet.deferred || packet.cached != null || packet.data != null;
+          this.encoded.put(packet);
+          frame += skip;
+        }
+      }
+    } catch (InterruptedException exception) {
+      return;
+    } catch (IOException | RuntimeException exception) {
+      die(exception);
+      wake();
+    }
+  }
+
+  /** Unparks the reading Thread, if started */
+  private void unparkReading() {
+    Thread reading = this.reading;
+    if (reading != null) {
+      LockSupport.unpark(reading);
+    }
+  }
+
+  /**
+   * Returns a copy of the bytes of the file of the given frame in a reused
+   * buffer, or null if it does not exist. Buffers too small are replaced by
+   * ones with a quarter more room.
+   */
+  private ByteBuffer fetch(int frame) throws IOException {
+    ByteBuffer source;
+    try {
+      source = this.reader.read(frame);
+    } catch (NoSuchFileException exception) {
+      return null;
+    }
+    int size = source.remaining();
+    ByteBuffer out = this.buffers.poll();
+    if (out == null || out.capacity() < size) {
+      out = ByteBuffer.allocate(size + (size >> 2));
+    }
+    out.clear();
+    out.put(source);
+    out.flip();
+    return out;
+  }
+
+  /** Returns the buffer of the given Packet, if any, to be read into again */
+  private void release(Packet packet) {
+    if (packet.data != null) {
+      this.buffers.offer(packet.data);
+      packet.data = null;
+    }
+  }
+
+  /**
+   * Decodes read files with the given ImageDecoder on a decoding Thread,
+   * subsampled down to the output size
+   */
+  private void decode(ImageDecoder decoder) {
+    try {
+      while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
+        Packet packet = this.encoded.take();
+        if (packet.generation != this.generation.get()) {
+          release(packet);
+          recycle(packet);
+          continue;
+        }
+        if (packet.data != null) {
+          try (
+            ImageInputStream stream = new ByteBufferImageInputStream(
+              packet.data
+            )
+          ) {
+            decoder.setSubsampling(getSubsampling());
+            packet.image = decoder.decode(stream);
+          } catch (IIOException exception) {
+            packet.image = null;
+          }
+          release(packet);
+        }
+        if (this.converter != null) {
+          this.decoded.put(packet);
+        } else {
+          deliver(packet);
+        }
+      }
+    } catch (InterruptedException exception) {
+      return;
+    } catch (IOException | RuntimeException exception) {
+      die(exception);
+      wake();
+    } finally {
+      decoder.dispose();
+    }
+  }
+
+  /** Converts decoded images on the converting Thread */
+  private void convert() {
+    try {
+      while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
+        Packet packet = this.decoded.take();
+        if (packet.generation != this.generation.get()) {
+          recycle(packet);
+          continue;
+        }
+        packet.image =
+          this.converter.convert(
+            packet.image,
+            this.outputWidth,
+            this.outputHeight
+          );
+        deliver(packet);
+      }
+    } catch (InterruptedException exception) {
+      return;
+    } catch (RuntimeException exception) {
+      die(exception);
+      wake();
+    }
+  }
+}
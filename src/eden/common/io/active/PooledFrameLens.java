@@ -0,0 +1,431 @@
+package eden.common.io.active;
+
+import eden.common.io.FrameReader;
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.ImageConverter;
+import eden.common.video.ImageDecoder;
+import eden.common.video.ImagePool;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOException;
+
+/**
+ * A {@code PooledFrameLens} decodes image files on a work-stealing {@code
+ * ForkJoinPool}. Instead of tying every Nth frame to one {@code Thread}, each
+ * worker takes the next frame from a shared counter as soon as it is idle, so
+ * that one expensive frame delays only itself, and throughput scales with the
+ * number of workers.
+ *
+ * Each worker {@code Thread} decodes with its own {@code ImageDecoder},
+ * subsampled down to the output size, then converts if told to. The number of
+ * frames decoded at once can be changed at runtime, up to the maximum given on
+ * construction; idle workers retire on their own.
+ *
+ * Given a {@code FrameReader} that is safe for use by multiple {@code Threads},
+ * workers read frames through it instead of decoding from file streams.
+ *
+ * Held frames are deferred to the frames before them while those are still in
+ * flight. Should one of those not be served, the held frame is decoded on the
+ * buffering {@code Thread} instead.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see ParallelFrameLens
+ */
+public class PooledFrameLens extends ParallelFrameLens {
+
+  /** Number of frames in flight per worker */
+  private static final int WORKER_DEPTH = 2;
+  /** Maximum number of worker Threads */
+  private final int maximum;
+  /** Maximum number of frames in flight */
+  private final int window;
+  /** Number of tasks submitted but not yet done */
+  private final AtomicInteger running;
+  /** FrameReader with which frames are to be read into memory, if any */
+  private final FrameReader reader;
+  /** ImageConverter with which decoded images are to be converted, if any */
+  private final ImageConverter converter;
+  /** ImageDecoders of live worker Threads */
+  private final Queue<ImageDecoder> decoders;
+  /** ImageDecoder of the buffering Thread, if made */
+  private ImageDecoder fallback;
+  /** Worker Threads, while running */
+  private ForkJoinPool workers;
+  /** Number of frames to be decoded at once */
+  private volatile int parallelism;
+  /** Work of the generation being served */
+  private Batch batch;
+
+  /**
+   * Makes a {@code PooledFrameLens} with the given path and {@code
+   * FileFrameSequence}, with as many workers as there are processors
+   */
+  public PooledFrameLens(String path, FileFrameSequence sequence) {
+    this(
+      path,
+      sequence,
+      DEFAULT_CAPACITY,
+      Runtime.getRuntime().availableProcessors(),
+      null
+    );
+  }
+
+  /**
+   * Makes a {@code PooledFrameLens} with the given parameters
+   *
+   * @param parallelism Number of worker {@code Threads}
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   */
+  public PooledFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    int parallelism,
+    ImagePool pool
+  ) {
+    this(path, sequence, capacity, parallelism, parallelism, pool);
+  }
+
+  /**
+   * Makes a {@code PooledFrameLens} with the given parameters
+   *
+   * @param parallelism Initial number of frames to be decoded at once
+   *
+   * @param maximum Maximum number of worker {@code Threads}, to which
+   * parallelism is capped
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   */
+  public PooledFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    int parallelism,
+    int maximum,
+    ImagePool pool
+  ) {
+    this(path, sequence, capacity, parallelism, maximum, pool, null);
+  }
+
+  /**
+   * Makes a {@code PooledFrameLens} with the given parameters
+   *
+   * @param parallelism Initial number of frames to be decoded at once
+   *
+   * @param maximum Maximum number of worker {@code Threads}, to which
+   * parallelism is capped
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param reader {@code FrameReader} with which frames are to be read into
+   * memory before decoding. It must be safe for use by multiple {@code
+   * Threads}. Passing {@code null} decodes straight from file streams.
+   */
+  public PooledFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    int parallelism,
+    int maximum,
+    ImagePool pool,
+    FrameReader reader
+  ) {
+    this(path, sequence, capacity, parallelism, maximum, pool, reader, false);
+  }
+
+  /**
+   * Makes a {@code PooledFrameLens} with the given parameters
+   *
+   * @param parallelism Initial number of frames to be decoded at once
+   *
+   * @param maximum Maximum number of worker {@code Threads}, to which
+   * parallelism is capped
+   *
+   * @param pool {@code ImagePool} into whose images files are to be decoded.
+   * Passing {@code null} decodes each file into a new image.
+   *
+   * @param reader {@code FrameReader} with which frames are to be read into
+   * memory before decoding. It must be safe for use by multiple {@code
+   * Threads}. Passing {@code null} decodes straight from file streams.
+   *
+   * @param convert Whether decoded images are to be converted into ones
+   * compatible with the default screen at the output size, on the worker
+   * {@code Threads}
+   */
+  public PooledFrameLens(
+    String path,
+    FileFrameSequence sequence,
+    short capacity,
+    int parallelism,
+    int maximum,
+    ImagePool pool,
+    FrameReader reader,
+    boolean convert
+  ) {
+    super(
+      path,
+      sequence,
+      capacity,
+      pool,
+      Math.max(maximum, 1) * WORKER_DEPTH
+    );
+    this.maximum = Math.max(maximum, 1);
+    this.window = this.maximum * WORKER_DEPTH;
+    this.reader = reader;
+    this.converter = convert ? new ImageConverter(pool) : null;
+    this.running = new AtomicInteger(0);
+    this.decoders = new ConcurrentLinkedQueue<>();
+    this.workers = null;
+    this.fallback = null;
+    this.parallelism = Math.min(Math.max(parallelism, 1), this.maximum);
+    this.batch = new Batch(this.generation.get(), this.frame, this.skip);
+  }
+
+  /** Starts the worker Threads, named after the buffering Thread */
+  @Override
+  protected void start() {
+    String name = Thread.currentThread().getName();
+    this.workers =
+      new ForkJoinPool(
+        this.maximum,
+        pool -> new Worker(pool, name),
+        null,
+        true
+      );
+  }
+
+  /**
+   * Stops the worker Threads, then disposes the ImageDecoder of the buffering
+   * Thread, if made
+   */
+  @Override
+  protected void stop() {
+    this.workers.shutdownNow();
+    if (this.fallback != null) {
+      this.fallback.dispose();
+      this.fallback = null;
+    }
+  }
+
+  /** Decodes it with an {@code ImageDecoder} of the buffering Thread */
+  @Override
+  protected BufferedImage decodeSource(int frame) throws IOException {
+    if (this.fallback == null) {
+      this.fallback = new ImageDecoder(this.sequence.getExtension(), this.pool);
+    }
+    return decode(this.fallback, frame);
+  }
+
+  /**
+   * Submits one task per frame until the window of frames in flight is full,
+   * as many tasks as the parallelism are running, or the next frame is out of
+   * bounds
+   */
+  @Override
+  protected void feed() {
+    Batch batch = this.batch;
+    while (
+      batch.submitted - getServed() < this.window &&
+      this.running.get() < this.parallelism
+    ) {
+      int frame = batch.frame + batch.submitted * batch.skip;
+      if (!this.sequence.isValidPoint(frame)) {
+        return;
+      }
+      batch.submitted++;
+      this.running.incrementAndGet();
+      this.workers.execute(() -> {
+        try {
+          decode(batch);
+        } finally {
+          this.running.decrementAndGet();
+          wake();
+        }
+      });
+    }
+  }
+
+  /** Starts a new Batch for the given generation */
+  @Override
+  protected void restarted(int generation) {
+    this.batch = new Batch(generation, this.frame, this.skip);
+  }
+
+  /** Returns the mean of the setup times of the worker {@code Threads} */
+  @Override
+  public long getSetupTime() {
+    long out = 0;
+    int count = 0;
+    for (ImageDecoder decoder : this.decoders) {
+      out += decoder.getSetupTime();
+      count++;
+    }
+    return count > 0 ? out / count : 0;
+  }
+
+  /** Returns the mean of the decode times of the worker {@code Threads} */
+  @Override
+  public long getDecodeTime() {
+    long out = 0;
+    int count = 0;
+    for (ImageDecoder decoder : this.decoders) {
+      out += decoder.getDecodeTime();
+      count++;
+    }
+    return count > 0 ? out / count : 0;
+  }
+
+  /** Returns the number of frames decoded at once */
+  public int getParallelism() {
+    return this.parallelism;
+  }
+
+  /** Returns the maximum number of worker {@code Threads} */
+  public int getMaximumParallelism() {
+    return this.maximum;
+  }
+
+  /**
+   * Sets the number of frames to be decoded at once, capped between one and
+   * the maximum number of worker {@code Threads}. It takes effect as running
+   * decodes finish.
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = Math.min(Math.max(parallelism, 1), this.maximum);
+    wake();
+  }
+
+  /**
+   * Claims the next frame of the given Batch and decodes it on a worker Thread
+   */
+  private void decode(Batch batch) {
+    if (batch.generation != this.generation.get()) {
+      return;
+    }
+    int ticket = batch.claimed.getAndIncrement();
+    int frame = batch.frame + ticket * batch.skip;
+    Packet packet = new Packet(
+      batch.generation,
+      ticket,
+      frame,
+      getSource(frame),
+      null
+    );
+    packet.deferred = isHeldOver(ticket, frame, batch.skip);
+    boolean skipped = isMissing(frame) || packet.deferred;
+    packet.overdue = !skipped && skipOverdue(frame);
+    skipped = skipped || packet.overdue;
+    packet.cached = skipped ? null : acquire(packet.source);
+    try {
+      if (packet.cached == null && !skipped) {
+        packet.image =
+          decode(((Worker) Thread.currentThread()).decoder, packet.source);
+      }
+    } catch (IIOException | NoSuchFileException exception) {
+      packet.image = null;
+    } catch (IOException | RuntimeException exception) {
+      die(exception);
+      wake();
+      return;
+    }
+    try {
+      deliver(packet);
+    } catch (InterruptedException exception) {
+      recycle(packet);
+    }
+  }
+
+  /**
+   * Reads and decodes the file of the given frame with the given decoder,
+   * subsampled down to the output size, then converted and scaled down to it
+   * if there is an ImageConverter
+   */
+  private BufferedImage decode(ImageDecoder decoder, int frame)
+    throws IOException {
+    decoder.setSubsampling(getSubsampling());
+    BufferedImage out;
+    if (this.reader != null) {
+      out = decoder.decode(this.reader, frame);
+    } else {
+      out =
+        decoder.decode(
+          new File(this.path + frame + "." + this.sequence.getExtension())
+        );
+    }
+    if (this.converter != null) {
+      out = this.converter.convert(out, this.outputWidth, this.outputHeight);
+    }
+    return out;
+  }
+
+  /** Work of one generation */
+  private static final class Batch {
+
+    /** Generation of this Batch */
+    final int generation;
+    /** First frame */
+    final int frame;
+    /** Frame skip */
+    final int skip;
+    /** Next ticket to be claimed by a worker Thread */
+    final AtomicInteger claimed;
+    /** Number of tasks submitted. Owned by the buffering Thread. */
+    int submitted;
+
+    /** Makes a Batch with the given parameters */
+    Batch(int generation, int frame, int skip) {
+      this.generation = generation;
+      this.frame = frame;
+      this.skip = skip;
+      this.claimed = new AtomicInteger(0);
+      this.submitted = 0;
+    }
+  }
+
+  /** A worker Thread that owns an ImageDecoder */
+  private final class Worker extends ForkJoinWorkerThread {
+
+    /** ImageDecoder of this Worker */
+    final ImageDecoder decoder;
+
+    /** Makes a Worker in the given ForkJoinPool named after the given name */
+    Worker(ForkJoinPool pool, String name) {
+      super(pool);
+      this.decoder =
+        new ImageDecoder(
+          PooledFrameLens.this.sequence.getExtension(),
+          PooledFrameLens.this.pool
+        );
+      setName(name + "/Decode[" + getPoolIndex() + "]");
+      setDaemon(true);
+    }
+
+    /** Registers the ImageDecoder of this Worker */
+    @Override
+    protected void onStart() {
+      super.onStart();
+      PooledFrameLens.this.decoders.add(this.decoder);
+    }
+
+    /** Unregisters and disposes the ImageDecoder of this Worker */
+    @Override
+    protected void onTermination(Throwable exception) {
+      PooledFrameLens.this.decoders.remove(this.decoder);
+      this.decoder.dispose();
+      super.onTermination(exception);
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package eden.common.io.active;
 
-import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * A {@code ReadAheadLens} reads, then decodes, and/or process data chunks into
@@ -11,8 +13,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * bottlenecks from direct I/O operations, especially from decoding and
  * processing.
  *
+ * The buffer is a lock-free {@code RingBuffer} with a single producer, the
+ * buffering {@code Thread}, and a single consumer. Neither side holds a monitor
+ * to exchange data chunks; waits on a full or an empty buffer park instead.
+ *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  */
 public abstract class ReadAheadLens<T> implements Runnable {
 
@@ -28,6 +34,10 @@ public abstract class ReadAheadLens<T> implements Runnable {
    * Indicates whether this ReadAheadLens was unrecoverably thrown an Exception
    */
   protected AtomicBoolean dead;
+  /** Threads awaiting data chunks from this ReadAheadLens */
+  private final Queue<Thread> waiters;
+  /** Thread on which this ReadAheadLens buffers */
+  private volatile Thread thread;
 
   /**
    * Makes an {@code ReadAheadLens} with the default buffer capacity in number
@@ -42,10 +52,12 @@ public abstract class ReadAheadLens<T> implements Runnable {
    * data chunks
    */
   public ReadAheadLens(short capacity) {
-    this.buffer = new LinkedList<>();
     this.capacity = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+    this.buffer = new RingBuffer<>(this.capacity);
     this.deathCause = null;
     this.dead = new AtomicBoolean(false);
+    this.waiters = new ConcurrentLinkedQueue<>();
+    this.thread = null;
   }
 
   /** Runs this {@code ReadAheadLens} */
@@ -58,6 +70,10 @@ public abstract class ReadAheadLens<T> implements Runnable {
   //      return;
   //    try {
   //      while (!Thread.currentThread().isInterrupted() && !this.dead.get()) {
+  //        if (getFree() <= 0) {
+  //          hold();
+  //          continue;
+  //        }
   //        getNextDataChunk();
   //        add(dataChunk);
   //      }
@@ -69,9 +85,9 @@ public abstract class ReadAheadLens<T> implements Runnable {
    * Removes and returns the head data chunk out of the FIFO buffer of this
    * {@code ReadAheadLens}
    */
-  public synchronized T poll() {
+  public T poll() {
     T out = this.buffer.poll();
-    notifyAll();
+    wake();
     return out;
   }
 
@@ -79,15 +95,15 @@ public abstract class ReadAheadLens<T> implements Runnable {
    * Removes the head data chunk out of the FIFO buffer of this {@code
    * ReadAheadLens}
    */
-  public synchronized void discard() {
+  public void discard() {
     this.buffer.poll();
-    notifyAll();
+    wake();
   }
 
   /**
    * Removes all data chunks from the FIFO buffer of this {@code ReadAheadLens}
    */
-  public synchronized void clear() {
+  public void clear() {
     this.buffer.clear();
   }
 
@@ -135,15 +151,72 @@ public abstract class ReadAheadLens<T> implements Runnable {
     return this.dead.get();
   }
 
-  /** Adds the given data chunk to the FIFO buffer of this ReadAheadLens */
-  protected synchronized void add(T data) {
+  /**
+   * Adds the given data chunk to the FIFO buffer of this ReadAheadLens. Only
+   * the buffering Thread may call this method, and only when the buffer is not
+   * full, as told by {@link #getFree()}.
+   *
+   * @throws IllegalStateException If the buffer is full
+   */
+  protected void add(T data) {
     this.buffer.add(data);
-    notifyAll();
+    signal();
+  }
+
+  /**
+   * Parks the buffering Thread of this ReadAheadLens until it is woken. Its
+   * first call only registers the calling Thread as the buffering Thread and
+   * returns immediately, so that callers always re-evaluate their conditions
+   * before actually parking.
+   */
+  protected void hold() {
+    Thread thread = Thread.currentThread();
+    if (this.thread != thread) {
+      this.thread = thread;
+      return;
+    }
+    LockSupport.park(this);
+  }
+
+  /** Unparks the buffering Thread of this ReadAheadLens */
+  protected void wake() {
+    Thread thread = this.thread;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  /**
+   * Parks the calling Thread for as long as the given condition holds, this
+   * ReadAheadLens is alive, and the calling Thread is not interrupted. It is
+   * unparked whenever a data chunk is added.
+   */
+  protected void awaitWhile(BooleanSupplier condition) {
+    Thread thread = Thread.currentThread();
+    this.waiters.add(thread);
+    try {
+      while (
+        condition.getAsBoolean() && !this.dead.get() && !thread.isInterrupted()
+      ) {
+        LockSupport.park(this);
+      }
+    } finally {
+      this.waiters.remove(thread);
+    }
+  }
+
+  /** Unparks all Threads awaiting data chunks from this ReadAheadLens */
+  protected void signal() {
+    if (this.waiters.isEmpty()) {
+      return;
+    }
+    this.waiters.forEach(LockSupport::unpark);
   }
 
   /** Marks this ReadAheadLens dead with the given Exception as its cause */
   protected void die(Exception exception) {
-    this.dead.set(true);
     this.deathCause = exception;
+    this.dead.set(true);
+    signal();
   }
 }
@@ -0,0 +1,205 @@
+package eden.common.io.active;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@code RingBuffer} is a preallocated, fixed-capacity, lock-free FIFO
+ * buffer designed for a single producer and a single consumer. Unlike most
+ * {@code Queues}, it accepts {@code null} elements.
+ *
+ * Its head and tail indices increase monotonically and are padded against
+ * false sharing, so that the producer and the consumer do not contend on the
+ * same cache line. Elements are removed by claiming their slots one at a time,
+ * so that the producer may clear it while the consumer polls, and the slots of
+ * removed elements are emptied so that they are not kept from collection.
+ *
+ * Each slot carries a sequence number that tells which index it is ready for.
+ * A removed slot is handed back to the producer only after it is emptied, so
+ * that emptying it never clears an element added after the indices wrap, even
+ * if it is the same reference.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ *
+ * @see ReadAheadLens
+ */
+class RingBuffer<T> extends AbstractQueue<T> {
+
+  /** Preallocated element slots */
+  private final AtomicReferenceArray<T> slots;
+  /**
+   * Slot sequence numbers. A slot is free for the index equal to its number,
+   * and holds the element of the index one below it.
+   */
+  private final AtomicLongArray sequences;
+  /** Slot index mask */
+  private final int mask;
+  /** Buffer capacity in number of elements */
+  private final int capacity;
+  /** Index of the next element to be removed. Owned by the consumer. */
+  private final PaddedIndex head;
+  /** Index of the next element to be added. Owned by the producer. */
+  private final PaddedIndex tail;
+
+  /** Makes a {@code RingBuffer} with the given capacity in elements */
+  RingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(Integer.toString(capacity));
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int index = 0; index < size; index++) {
+      this.sequences.set(index, index);
+    }
+    this.mask = size - 1;
+    this.capacity = capacity;
+    this.head = new PaddedIndex();
+    this.tail = new PaddedIndex();
+  }
+
+  /**
+   * Adds the given element to the tail of this {@code RingBuffer}. Only the
+   * producer may call this method.
+   *
+   * @return {@code false} If this {@code RingBuffer} is full;
+   *
+   * {@code true} If the operation is successful
+   */
+  @Override
+  public boolean offer(T element) {
+    long tail = this.tail.get();
+    if (tail - this.head.get() >= this.capacity) {
+      return false;
+    }
+    int index = (int) tail & this.mask;
+    while (this.sequences.get(index) != tail) {
+      // The slot is claimed but not yet handed back.
+      Thread.yield();
+    }
+    this.slots.lazySet(index, element);
+    this.sequences.lazySet(index, tail + 1);
+    this.tail.lazySet(tail + 1);
+    return true;
+  }
+
+  /**
+   * Removes and returns the head element of this {@code RingBuffer}, or
+   * {@code null} if it is empty.
+   */
+  @Override
+  public T poll() {
+    return take(this.tail.get());
+  }
+
+  /**
+   * Returns the head element of this {@code RingBuffer}, or {@code null} if it
+   * is empty.
+   */
+  @Override
+  public T peek() {
+    while (true) {
+      long head = this.head.get();
+      if (head >= this.tail.get()) {
+        return null;
+      }
+      int index = (int) head & this.mask;
+      if (this.sequences.get(index) != head + 1) {
+        continue;
+      }
+      T out = this.slots.get(index);
+      if (this.head.get() == head) {
+        return out;
+      }
+    }
+  }
+
+  /**
+   * Removes all elements from this {@code RingBuffer} added before the call.
+   * Either the producer or the consumer may call this method.
+   */
+  @Override
+  public void clear() {
+    long tail = this.tail.get();
+    while (this.head.get() < tail) {
+      take(tail);
+    }
+  }
+
+  /** Returns the number of elements in this {@code RingBuffer} */
+  @Override
+  public int size() {
+    long head = this.head.get();
+    long size = this.tail.get() - head;
+    return size < 0 ? 0 : (int) Math.min(size, this.capacity);
+  }
+
+  /** Returns whether this {@code RingBuffer} contains no elements */
+  @Override
+  public boolean isEmpty() {
+    return this.head.get() >= this.tail.get();
+  }
+
+  /**
+   * Returns a weakly-consistent {@code Iterator} over a snapshot of the
+   * elements in this {@code RingBuffer}
+   */
+  @Override
+  public Iterator<T> iterator() {
+    List<T> out = new ArrayList<>(this.capacity);
+    long tail = this.tail.get();
+    for (long index = this.head.get(); index < tail; index++) {
+      out.add(this.slots.get((int) index & this.mask));
+    }
+    return out.iterator();
+  }
+
+  /**
+   * Claims the head slot of this {@code RingBuffer} if it is before the given
+   * tail index, then empties it, hands it back to the producer and returns the
+   * element it held, or {@code null} if there was none
+   */
+  private T take(long tail) {
+    while (true) {
+      long head = this.head.get();
+      if (head >= tail) {
+        return null;
+      }
+      int index = (int) head & this.mask;
+      if (this.sequences.get(index) != head + 1) {
+        continue;
+      }
+      T out = this.slots.get(index);
+      if (this.head.compareAndSet(head, head + 1)) {
+        this.slots.lazySet(index, null);
+        this.sequences.lazySet(index, head + this.slots.length());
+        return out;
+      }
+    }
+  }
+
+  /** Returns the capacity of this {@code RingBuffer} in elements */
+  int getCapacity() {
+    return this.capacity;
+  }
+
+  /**
+   * An {@code AtomicLong} trailed by enough padding that no other hot field
+   * shares its cache line
+   */
+  @SuppressWarnings("serial")
+  private static final class PaddedIndex extends AtomicLong {
+
+    /** Padding */
+    long p1, p2, p3, p4, p5, p6, p7;
+  }
+}
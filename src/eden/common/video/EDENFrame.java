@@ -2,12 +2,25 @@ package eden.common.video;
 
 import java.awt.Image;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * A {@code Frame} wraps an {@code Image} with an identifier.
+ * A {@code Frame} wraps an {@code Image} with an identifier. A {@code Frame}
+ * whose {@code Image} was decoded into an {@code ImagePool} image returns it to
+ * that pool once every holder has recycled it. It starts with one holder, its
+ * maker; each further holder, such as a {@code FrameWindow}, retains it.
+ *
+ * A {@code Frame} can also show the {@code Image} of another under its own
+ * identifier, holding that other {@code Frame} until it is recycled itself.
+ *
+ * A {@code Frame} decoded with source subsampling or scaled down records its
+ * factor, so that it can be told apart from one at full resolution.
+ *
+ * A {@code Frame} may carry the media time at which it is due to be shown, so
+ * that renderers can tell whether it is late.
  *
  * @author Brendon
- * @version u0r0, 11/25/2018.
+ * @version u0r7, 10/17/2026.
  */
 public class EDENFrame {
 
@@ -15,19 +28,116 @@ public class EDENFrame {
   private final Image image;
   /** Image identifier */
   private final int identifier;
+  /** ImagePool to which the Image is to be returned, if any */
+  private final ImagePool pool;
+  /** Number of holders that have yet to recycle this Frame */
+  private final AtomicInteger references;
+  /** Frame whose Image this Frame shows, if any */
+  private final EDENFrame source;
+  /** Source subsampling factor of the Image, or 1 if at full resolution */
+  private final int subsampling;
+  /** Media time in seconds at which this Frame is due, or NaN if unknown */
+  private volatile double presentationTime = Double.NaN;
 
   /**
    * Makes a {@code Frame} with the given {@code Image} and identifier
    */
   public EDENFrame(Image image, int identifier) {
+    this(image, identifier, null);
+  }
+
+  /**
+   * Makes a {@code Frame} with the given {@code Image}, identifier, and {@code
+   * ImagePool} to which the {@code Image} is to be returned upon recycling
+   */
+  public EDENFrame(Image image, int identifier, ImagePool pool) {
+    this(image, identifier, pool, 1);
+  }
+
+  /**
+   * Makes a {@code Frame} with the given parameters
+   *
+   * @param pool {@code ImagePool} to which the {@code Image} is to be returned
+   * upon recycling, if any
+   *
+   * @param subsampling Source subsampling factor with which the {@code Image}
+   * was decoded, or 1 if at full resolution
+   */
+  public EDENFrame(
+    Image image,
+    int identifier,
+    ImagePool pool,
+    int subsampling
+  ) {
+    this(image, identifier, pool, null, subsampling);
+  }
+
+  /** Makes a Frame with the given parameters */
+  private EDENFrame(
+    Image image,
+    int identifier,
+    ImagePool pool,
+    EDENFrame source,
+    int subsampling
+  ) {
     this.image = image;
     this.identifier = identifier;
+    this.pool = pool;
+    this.references = new AtomicInteger(1);
+    this.source = source;
+    this.subsampling = Math.max(subsampling, 1);
   }
 
   /** To prevent uninitialized instantiations of this class */
   private EDENFrame() {
     this.image = null;
     this.identifier = 0;
+    this.pool = null;
+    this.references = null;
+    this.source = null;
+    this.subsampling = 1;
+  }
+
+  /**
+   * Registers one more holder of this {@code Frame}, which is to recycle it
+   * once done
+   *
+   * @return This {@code Frame}
+   */
+  public EDENFrame retain() {
+    this.references.incrementAndGet();
+    return this;
+  }
+
+  /**
+   * Returns a new {@code Frame} that shows the {@code Image} of this {@code
+   * Frame} under the given identifier. It retains this {@code Frame} until it
+   * is recycled itself.
+   */
+  public EDENFrame holdAs(int identifier) {
+    return new EDENFrame(
+      this.image,
+      identifier,
+      null,
+      retain(),
+      this.subsampling
+    );
+  }
+
+  /**
+   * Releases one holder of this {@code Frame}. Once the last one is released,
+   * the {@code Image} is returned to its {@code ImagePool}, and must no longer
+   * be drawn. Each holder is to call this method once.
+   */
+  public void recycle() {
+    if (this.references.decrementAndGet() != 0) {
+      return;
+    }
+    if (this.source != null) {
+      this.source.recycle();
+    } else if (this.pool != null) {
+      this.pool.release(this.image);
+    }
   }
 
   /** Returns the {@code Image} of this {@code Frame} */
@@ -40,6 +150,59 @@ public class EDENFrame {
     return this.identifier;
   }
 
+  /**
+   * Returns the source subsampling factor with which the {@code Image} of this
+   * {@code Frame} was decoded, which is 1 if it is at full resolution
+   */
+  public int getSubsampling() {
+    return this.subsampling;
+  }
+
+  /**
+   * Returns the media time in seconds at which this {@code Frame} is due to be
+   * shown, or {@code NaN} if it is unknown
+   */
+  public double getPresentationTime() {
+    return this.presentationTime;
+  }
+
+  /**
+   * Sets the media time in seconds at which this {@code Frame} is due to be
+   * shown
+   */
+  public void setPresentationTime(double presentationTime) {
+    this.presentationTime = presentationTime;
+  }
+
+  /** Returns whether this {@code Frame} is below full resolution */
+  public boolean isSubsampled() {
+    return this.subsampling > 1;
+  }
+
+  /**
+   * Returns whether the {@code Image} of this {@code Frame} is larger than that
+   * of the given one
+   */
+  public boolean isLargerThan(EDENFrame frame) {
+    return (
+      this.image.getWidth(null) > frame.image.getWidth(null) ||
+      this.image.getHeight(null) > frame.image.getHeight(null)
+    );
+  }
+
+  /**
+   * Returns whether this {@code Frame} can be shown at the given size in pixels
+   * without being scaled up, which it always can at full resolution. One pixel
+   * of rounding is tolerated.
+   */
+  public boolean covers(int width, int height) {
+    return (
+      !isSubsampled() ||
+      (this.image.getWidth(null) >= width - 1 &&
+        this.image.getHeight(null) >= height - 1)
+    );
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean equals(Object o) {
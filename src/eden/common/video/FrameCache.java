@@ -0,0 +1,232 @@
+package eden.common.video;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@code FrameCache} keeps decoded {@code Frames} by sequence path and frame
+ * number, so that frames shown over and over, such as freeze points and loops,
+ * are decoded once. It is bounded by the total number of pixel bytes held
+ * rather than by the number of {@code Frames}, and evicts the least recently
+ * used ones first.
+ *
+ * It retains every {@code Frame} that it keeps, and recycles them upon
+ * eviction. {@code Frames} obtained from it are retained for their taker.
+ *
+ * A {@code FrameCache} is safe for use by multiple {@code Threads}.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameCache {
+
+  /** Default memory budget in bytes */
+  public static final long DEFAULT_BUDGET = 128L << 20;
+  /** Instance shared by all sequences */
+  public static final FrameCache INSTANCE = new FrameCache();
+  /** Kept Frames in access order, least recently used first */
+  private final LinkedHashMap<Key, EDENFrame> frames;
+  /** Memory budget in bytes */
+  private long budget;
+  /** Number of pixel bytes held */
+  private long bytes;
+  /** Number of requests served by a kept Frame */
+  private long hits;
+  /** Number of requests not served by a kept Frame */
+  private long misses;
+  /** Number of Frames evicted */
+  private long evictions;
+
+  /**
+   * Makes a {@code FrameCache} with the default memory budget of 128 MiB
+   */
+  public FrameCache() {
+    this(DEFAULT_BUDGET);
+  }
+
+  /** Makes a {@code FrameCache} with the given memory budget in bytes */
+  public FrameCache(long budget) {
+    this.frames = new LinkedHashMap<>(16, 0.75f, true);
+    this.budget = Math.max(budget, 0);
+    this.bytes = 0;
+    this.hits = 0;
+    this.misses = 0;
+    this.evictions = 0;
+  }
+
+  /**
+   * Returns the kept {@code Frame} of the given path and frame number retained
+   * for the caller, or {@code null} if there is none
+   */
+  public synchronized EDENFrame acquire(String path, int frame) {
+    EDENFrame out = this.frames.get(new Key(path, frame));
+    if (out == null) {
+      this.misses++;
+      return null;
+    }
+    this.hits++;
+    return out.retain();
+  }
+
+  /**
+   * Keeps the given {@code Frame} of the given path, then evicts the least
+   * recently used {@code Frames} until the budget is met. {@code Frames} larger
+   * than the budget are not kept. A kept {@code Frame} of the same frame is
+   * replaced only if the given one is larger.
+   */
+  public synchronized void put(String path, EDENFrame frame) {
+    if (frame == null || frame.getImage() == null) {
+      return;
+    }
+    long size = sizeOf(frame.getImage());
+    Key key = new Key(path, frame.getIdentifier());
+    EDENFrame kept = this.frames.get(key);
+    if (
+      size > this.budget ||
+      (kept != null && !frame.isLargerThan(kept))
+    ) {
+      return;
+    }
+    this.frames.put(key, frame.retain());
+    this.bytes += size;
+    if (kept != null) {
+      this.bytes -= sizeOf(kept.getImage());
+      kept.recycle();
+    }
+    evict();
+  }
+
+  /**
+   * Recycles and removes the kept {@code Frames} of the given path, such as
+   * when its sequence is unloaded
+   */
+  public synchronized void remove(String path) {
+    Iterator<Map.Entry<Key, EDENFrame>> iterator =
+      this.frames.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Key, EDENFrame> entry = iterator.next();
+      if (!Objects.equals(entry.getKey().path, path)) {
+        continue;
+      }
+      EDENFrame frame = entry.getValue();
+      iterator.remove();
+      this.bytes -= sizeOf(frame.getImage());
+      frame.recycle();
+    }
+  }
+
+  /** Recycles and removes all kept {@code Frames} */
+  public synchronized void clear() {
+    this.frames.values().forEach(EDENFrame::recycle);
+    this.frames.clear();
+    this.bytes = 0;
+  }
+
+  /** Returns the memory budget in bytes */
+  public synchronized long getBudget() {
+    return this.budget;
+  }
+
+  /** Returns the number of pixel bytes held */
+  public synchronized long getBytes() {
+    return this.bytes;
+  }
+
+  /** Returns the number of kept {@code Frames} */
+  public synchronized int getSize() {
+    return this.frames.size();
+  }
+
+  /** Returns the number of requests served by a kept {@code Frame} */
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  /** Returns the number of requests not served by a kept {@code Frame} */
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  /** Returns the number of evicted {@code Frames} */
+  public synchronized long getEvictions() {
+    return this.evictions;
+  }
+
+  /**
+   * Sets the memory budget in bytes, evicting {@code Frames} as necessary.
+   * Passing zero disables this {@code FrameCache}.
+   */
+  public synchronized void setBudget(long budget) {
+    this.budget = Math.max(budget, 0);
+    evict();
+  }
+
+  /**
+   * Recycles and removes the least recently used Frames until the budget is
+   * met
+   */
+  private void evict() {
+    Iterator<Map.Entry<Key, EDENFrame>> iterator =
+      this.frames.entrySet().iterator();
+    while (this.bytes > this.budget && iterator.hasNext()) {
+      EDENFrame frame = iterator.next().getValue();
+      iterator.remove();
+      this.bytes -= sizeOf(frame.getImage());
+      this.evictions++;
+      frame.recycle();
+    }
+  }
+
+  /** Returns the number of pixel bytes held by the given Image */
+  private static long sizeOf(Image image) {
+    if (!(image instanceof BufferedImage)) {
+      return 0;
+    }
+    DataBuffer buffer = ((BufferedImage) image).getRaster().getDataBuffer();
+    return (
+      (long) buffer.getSize() *
+      buffer.getNumBanks() *
+      DataBuffer.getDataTypeSize(buffer.getDataType()) /
+      8
+    );
+  }
+
+  /** Identifies a Frame by sequence path and frame number */
+  private static final class Key {
+
+    /** Sequence path */
+    final String path;
+    /** Frame number */
+    final int frame;
+
+    /** Makes a Key with the given parameters */
+    Key(String path, int frame) {
+      this.path = path;
+      this.frame = frame;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return key.frame == this.frame && Objects.equals(key.path, this.path);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.path, this.frame);
+    }
+  }
+}
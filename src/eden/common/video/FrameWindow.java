@@ -0,0 +1,197 @@
+package eden.common.video;
+
+import eden.common.model.sequence.Sequence;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@code FrameWindow} keeps decoded {@code Frames} by frame number within a
+ * radius around the point of a {@code Sequence}, in both directions, so that
+ * steps, jumps, and direction changes inside it are served without decoding
+ * again. When full, it evicts the {@code Frames} farthest from the point.
+ *
+ * It retains every {@code Frame} that it keeps, and recycles them upon
+ * eviction. {@code Frames} obtained from it are retained for their taker.
+ *
+ * A {@code FrameWindow} is safe for use by multiple {@code Threads}.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameWindow {
+
+  /** Default window radius in number of frames */
+  public static final short DEFAULT_RADIUS = 8;
+  /** Sequence whose point centers this FrameWindow */
+  private final Sequence sequence;
+  /** Window radius in number of frames */
+  private final int radius;
+  /** Kept Frames by frame number */
+  private final TreeMap<Integer, EDENFrame> frames;
+  /** Frame numbers claimed for decoding but not yet put */
+  private final Set<Integer> claims;
+  /** Number of requests served by a kept Frame */
+  private long hits;
+  /** Number of requests not served by a kept Frame */
+  private long misses;
+
+  /**
+   * Makes a {@code FrameWindow} around the point of the given {@code Sequence}
+   * with the default radius of {@value #DEFAULT_RADIUS} frames
+   */
+  public FrameWindow(Sequence sequence) {
+    this(sequence, DEFAULT_RADIUS);
+  }
+
+  /**
+   * Makes a {@code FrameWindow} around the point of the given {@code Sequence}
+   * with the given radius in number of frames
+   */
+  public FrameWindow(Sequence sequence, int radius) {
+    this.sequence = sequence;
+    this.radius = Math.max(radius, 0);
+    this.frames = new TreeMap<>();
+    this.claims = new HashSet<>();
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /**
+   * Returns the kept {@code Frame} of the given frame number retained for the
+   * caller, or {@code null} if there is none
+   */
+  public synchronized EDENFrame acquire(int frame) {
+    EDENFrame out = this.frames.get(frame);
+    if (out == null) {
+      this.misses++;
+      return null;
+    }
+    this.hits++;
+    return out.retain();
+  }
+
+  /**
+   * Keeps the given {@code Frame} if it lies within the window, then evicts
+   * the {@code Frames} that no longer fit. A kept {@code Frame} of the same
+   * frame number is replaced only if the given one is larger. Any claim on its
+   * frame number is dropped.
+   */
+  public synchronized void put(EDENFrame frame) {
+    if (frame == null) {
+      return;
+    }
+    int identifier = frame.getIdentifier();
+    this.claims.remove(identifier);
+    EDENFrame kept = this.frames.get(identifier);
+    if (
+      Math.abs((long) identifier - this.sequence.getPoint()) > this.radius ||
+      (kept != null && !frame.isLargerThan(kept))
+    ) {
+      return;
+    }
+    this.frames.put(identifier, frame.retain());
+    if (kept != null) {
+      kept.recycle();
+    }
+    evict();
+  }
+
+  /**
+   * Claims and returns the missing frame number nearest to the point within
+   * the window, looking against the given direction first. A claimed frame
+   * number is not returned again until it is put or unclaimed.
+   *
+   * @return The claimed frame number;
+   *
+   * {@code Integer.MIN_VALUE} If the window has no missing frames
+   */
+  public int claim(int direction) {
+    return claim(direction, frame -> true);
+  }
+
+  /**
+   * Claims and returns the missing frame number nearest to the point within
+   * the window that passes the given test, looking against the given direction
+   * first. A claimed frame number is not returned again until it is put or
+   * unclaimed, so a claimer that does not put it must unclaim it.
+   *
+   * @return The claimed frame number;
+   *
+   * {@code Integer.MIN_VALUE} If the window has no such missing frames
+   */
+  public synchronized int claim(int direction, IntPredicate test) {
+    int point = this.sequence.getPoint();
+    int step = direction < 0 ? 1 : -1;
+    for (int distance = 0; distance <= this.radius; distance++) {
+      for (int side = 0; side < 2; side++) {
+        int frame = point + (side == 0 ? step : -step) * distance;
+        if (
+          this.sequence.isValidPoint(frame) &&
+          !this.frames.containsKey(frame) &&
+          !this.claims.contains(frame) &&
+          test.test(frame) &&
+          this.claims.add(frame)
+        ) {
+          return frame;
+        }
+      }
+    }
+    return Integer.MIN_VALUE;
+  }
+
+  /** Drops the claim on the given frame number */
+  public synchronized void unclaim(int frame) {
+    this.claims.remove(frame);
+  }
+
+  /** Recycles and removes all kept {@code Frames} */
+  public synchronized void clear() {
+    this.frames.values().forEach(EDENFrame::recycle);
+    this.frames.clear();
+    this.claims.clear();
+  }
+
+  /** Returns the window radius in number of frames */
+  public int getRadius() {
+    return this.radius;
+  }
+
+  /** Returns the number of kept {@code Frames} */
+  public synchronized int getSize() {
+    return this.frames.size();
+  }
+
+  /** Returns the number of requests served by a kept {@code Frame} */
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  /** Returns the number of requests not served by a kept {@code Frame} */
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  /**
+   * Recycles and removes the kept Frames outside the window around the current
+   * point
+   */
+  private void evict() {
+    int point = this.sequence.getPoint();
+    Map.Entry<Integer, EDENFrame> entry;
+    while (
+      (entry = this.frames.firstEntry()) != null &&
+      point - (long) entry.getKey() > this.radius
+    ) {
+      this.frames.pollFirstEntry().getValue().recycle();
+    }
+    while (
+      (entry = this.frames.lastEntry()) != null &&
+      (long) entry.getKey() - point > this.radius
+    ) {
+      this.frames.pollLastEntry().getValue().recycle();
+    }
+  }
+}
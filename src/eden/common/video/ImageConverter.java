@@ -0,0 +1,142 @@
+package eden.common.video;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageTypeSpecifier;
+
+/**
+ * An {@code ImageConverter} converts decoded images into images compatible
+ * with a {@code GraphicsConfiguration}, usually that of the default screen, so
+ * that drawing them needs no per-paint pixel format conversion.
+ *
+ * Given an output size, it also scales images down to it, so that drawing them
+ * is a plain copy.
+ *
+ * Given an {@code ImagePool}, it converts into pooled images and releases the
+ * decoded ones. Images that are already compatible and no larger are passed
+ * through.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class ImageConverter {
+
+  /** Target GraphicsConfiguration, if any */
+  private final GraphicsConfiguration configuration;
+  /** ImagePool to and from which images are to be recycled, if any */
+  private final ImagePool pool;
+
+  /**
+   * Makes an {@code ImageConverter} for the default screen with the given
+   * {@code ImagePool}
+   */
+  public ImageConverter(ImagePool pool) {
+    this(getDefaultConfiguration(), pool);
+  }
+
+  /**
+   * Makes an {@code ImageConverter} with the given parameters
+   *
+   * @param configuration Target {@code GraphicsConfiguration}. Passing {@code
+   * null} passes every image through unless it is to be scaled.
+   *
+   * @param pool {@code ImagePool} to and from which images are to be recycled.
+   * Passing {@code null} allocates each converted image.
+   */
+  public ImageConverter(GraphicsConfiguration configuration, ImagePool pool) {
+    this.configuration = configuration;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the given image converted into a compatible one, or itself if it
+   * is already compatible or {@code null}
+   */
+  public BufferedImage convert(BufferedImage image) {
+    return convert(image, 0, 0);
+  }
+
+  /**
+   * Returns the given image converted into a compatible one and scaled down to
+   * the given dimensions where it is larger, or itself if it is already
+   * compatible and no larger, or {@code null}. Without a target {@code
+   * GraphicsConfiguration}, scaled images keep their type. Non-positive
+   * dimensions do not scale.
+   */
+  public BufferedImage convert(BufferedImage image, int width, int height) {
+    if (image == null) {
+      return null;
+    }
+    width = width > 0 ? Math.min(width, image.getWidth()) : image.getWidth();
+    height =
+      height > 0 ? Math.min(height, image.getHeight()) : image.getHeight();
+    boolean scaled = width != image.getWidth() || height != image.getHeight();
+    if (
+      !scaled &&
+      (this.configuration == null ||
+        image.getColorModel().equals(this.configuration.getColorModel()))
+    ) {
+      return image;
+    }
+    BufferedImage out;
+    if (this.configuration != null) {
+      out =
+        this.pool != null
+          ? this.pool.acquire(this.configuration, width, height)
+          : this.configuration.createCompatibleImage(width, height);
+    } else {
+      ImageTypeSpecifier type = ImageTypeSpecifier.createFromRenderedImage(
+        image
+      );
+      out =
+        this.pool != null
+          ? this.pool.acquire(type, width, height)
+          : type.createBufferedImage(width, height);
+    }
+    Graphics2D g = out.createGraphics();
+    try {
+      if (scaled) {
+        g.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR
+        );
+        g.drawImage(image, 0, 0, width, height, null);
+      } else {
+        g.drawImage(image, 0, 0, null);
+      }
+    } finally {
+      g.dispose();
+    }
+    if (this.pool != null) {
+      this.pool.release(image);
+    }
+    return out;
+  }
+
+  /** Returns the target {@code GraphicsConfiguration}, if any */
+  public GraphicsConfiguration getConfiguration() {
+    return this.configuration;
+  }
+
+  /**
+   * Returns the default GraphicsConfiguration of the default screen, or null if
+   * there are no screens
+   */
+  private static GraphicsConfiguration getDefaultConfiguration() {
+    if (GraphicsEnvironment.isHeadless()) {
+      return null;
+    }
+    try {
+      return GraphicsEnvironment
+        .getLocalGraphicsEnvironment()
+        .getDefaultScreenDevice()
+        .getDefaultConfiguration();
+    } catch (HeadlessException exception) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package eden.common.video;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageTypeSpecifier;
+
+/**
+ * An {@code ImagePool} keeps a bounded number of released {@code
+ * BufferedImages} so that decoders can decode into them again instead of
+ * allocating new ones. Images of the same size and type are interchangeable;
+ * the ones that do not match a request are dropped.
+ *
+ * An {@code ImagePool} is safe for use by multiple {@code Threads}.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class ImagePool {
+
+  /** Default pool capacity in number of images */
+  public static final short DEFAULT_CAPACITY = 8;
+  /** Released images ready to be acquired */
+  private final BlockingQueue<BufferedImage> images;
+  /** Number of images allocated by this ImagePool */
+  private final AtomicLong allocations;
+  /** Number of requests served by a released image */
+  private final AtomicLong reuses;
+
+  /**
+   * Makes an {@code ImagePool} with the default capacity of {@value
+   * #DEFAULT_CAPACITY} images
+   */
+  public ImagePool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /** Makes an {@code ImagePool} with the given capacity in number of images */
+  public ImagePool(short capacity) {
+    this.images =
+      new ArrayBlockingQueue<>(capacity > 0 ? capacity : DEFAULT_CAPACITY);
+    this.allocations = new AtomicLong(0);
+    this.reuses = new AtomicLong(0);
+  }
+
+  /**
+   * Returns a released {@code BufferedImage} of the given type and dimensions,
+   * or a new one if there are none
+   */
+  public BufferedImage acquire(ImageTypeSpecifier type, int width, int height) {
+    BufferedImage out;
+    while ((out = this.images.poll()) != null) {
+      if (
+        out.getWidth() == width &&
+        out.getHeight() == height &&
+        out.getType() == type.getBufferedImageType()
+      ) {
+        this.reuses.incrementAndGet();
+        return out;
+      }
+    }
+    this.allocations.incrementAndGet();
+    return type.createBufferedImage(width, height);
+  }
+
+  /**
+   * Returns a released {@code BufferedImage} compatible with the given {@code
+   * GraphicsConfiguration} and of the given dimensions, or a new one if there
+   * are none
+   */
+  public BufferedImage acquire(
+    GraphicsConfiguration configuration,
+    int width,
+    int height
+  ) {
+    BufferedImage out;
+    while ((out = this.images.poll()) != null) {
+      if (
+        out.getWidth() == width &&
+        out.getHeight() == height &&
+        out.getColorModel().equals(configuration.getColorModel())
+      ) {
+        this.reuses.incrementAndGet();
+        return out;
+      }
+    }
+    this.allocations.incrementAndGet();
+    return configuration.createCompatibleImage(width, height);
+  }
+
+  /**
+   * Releases the given {@code Image} into this {@code ImagePool}. Images that
+   * are not {@code BufferedImages} of a predefined type, or that do not fit,
+   * are left for the garbage collector.
+   */
+  public void release(Image image) {
+    if (
+      image instanceof BufferedImage &&
+      ((BufferedImage) image).getType() != BufferedImage.TYPE_CUSTOM
+    ) {
+      this.images.offer((BufferedImage) image);
+    }
+  }
+
+  /** Removes all released images from this {@code ImagePool} */
+  public void clear() {
+    this.images.clear();
+  }
+
+  /** Returns the number of images allocated by this {@code ImagePool} */
+  public long getAllocations() {
+    return this.allocations.get();
+  }
+
+  /** Returns the number of requests served by a released image */
+  public long getReuses() {
+    return this.reuses.get();
+  }
+}
@@ -1,49 +1,93 @@
 package eden.common.video.render;
 
-import eden.common.io.active.FileFrameLens;
+import eden.common.clock.SyncroClock;
+import eden.common.io.active.FrameLens;
 import eden.common.video.EDENFrame;
 import java.awt.Graphics2D;
+import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.event.ActionEvent;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
 
 /**
  * A {@code MultiLensFrameRenderer} renders {@code Frames} on the {@code
  * RendererComponent} that calls its draw method.
  *
+ * Replaced {@code Frames} are recycled one update late, so that a paint still
+ * in progress never sees its {@code Image} decoded over.
+ *
+ * It tells its {@code FrameLenses} the size at which it draws, so that they
+ * decode no larger than needed. Frames already at the output size are drawn
+ * unscaled. Told to, it draws them through {@code VolatileImage} surfaces
+ * instead, uploading each once. Given a refresh action, it runs it whenever
+ * its output grows past the resolution of its {@code Frame}.
+ *
+ * Given a master clock, it tells polled {@code Frames} apart by their
+ * presentation times. Those more than the given tolerance behind the clock are
+ * late, and are dropped in favor of the next one as long as one is ready.
+ *
  * @author Brendon
- * @version u0r1, 11/06/2021.
+ * @version u0r7, 10/17/2026.
  *
  * @see EDENRenderer
  */
 public class MultiLensFrameRenderer extends EDENRenderer {
 
-  /** Working FileFrameLenses */
-  private final List<FileFrameLens> lenses;
-  /** FileFrameLens from which the next Frame will be polled */
-  private FileFrameLens lens;
+  /** Working FrameLenses */
+  private final List<FrameLens> lenses;
+  /** FrameLens from which the next Frame will be polled */
+  private FrameLens lens;
   /** Current Frame to be painted */
   private EDENFrame frame;
+  /** Last replaced Frame, to be recycled on the next replacement */
+  private EDENFrame retired;
   /** Rendering aspect ratio */
   private double ratio;
   /** Identifier of the last rendered Frame */
   private int lastIdentifier;
+  /** Last output width told to the FrameLenses */
+  private int outputWidth;
+  /** Last output height told to the FrameLenses */
+  private int outputHeight;
+  /** Action to be run when the output grows past the Frame, if any */
+  private Runnable refresh;
+  /** Last A/V offset in seconds told to this renderer */
+  private volatile double offset;
+  /** SyncroClock that last updated this renderer, if any */
+  private SyncroClock clock;
+  /** SurfaceRing through which Frames are to be drawn, if any */
+  private volatile SurfaceRing surfaces;
+  /** Supplier of the media time in seconds of the Frame due now, if any */
+  private volatile DoubleSupplier master;
+  /** Time in seconds by which a Frame may trail the master clock */
+  private volatile double tolerance;
+  /** Number of late Frames dropped */
+  private final AtomicLong dropped = new AtomicLong(0);
+  /** Number of late Frames shown */
+  private final AtomicLong late = new AtomicLong(0);
+  /** Number of Frames shown on time */
+  private final AtomicLong onTime = new AtomicLong(0);
   private boolean reverse = false;
 
   /**
    * Makes an {@code MultiLensFrameRenderer} with the given {@code List} of
-   * {@code FileFrameLens}
+   * {@code FrameLens}
    */
-  public MultiLensFrameRenderer(List<FileFrameLens> lenses) {
+  public MultiLensFrameRenderer(List<? extends FrameLens> lenses) {
     this(null, lenses, 1, new RendererComponent[0]);
   }
 
   /**
    * Makes an {@code MultiLensFrameRenderer} with the given {@code List} of
-   * {@code FileFrameLens} and rendering aspect ratio
+   * {@code FrameLens} and rendering aspect ratio
    */
-  public MultiLensFrameRenderer(List<FileFrameLens> lenses, double ratio) {
+  public MultiLensFrameRenderer(
+    List<? extends FrameLens> lenses,
+    double ratio
+  ) {
     this(null, lenses, ratio, new RendererComponent[0]);
   }
 
@@ -54,7 +98,7 @@ public class MultiLensFrameRenderer extends EDENRenderer {
    */
   public MultiLensFrameRenderer(
     String name,
-    List<FileFrameLens> lenses,
+    List<? extends FrameLens> lenses,
     double ratio
   ) {
     this(name, lenses, ratio, new RendererComponent[0]);
@@ -67,7 +111,7 @@ public class MultiLensFrameRenderer extends EDENRenderer {
    */
   public MultiLensFrameRenderer(
     String name,
-    List<FileFrameLens> lenses,
+    List<? extends FrameLens> lenses,
     double ratio,
     RendererComponent... components
   ) {
@@ -90,17 +134,38 @@ public class MultiLensFrameRenderer extends EDENRenderer {
    */
   @Override
   public void update(RendererComponent component, ActionEvent event) {
+    if (event != null && event.getSource() instanceof SyncroClock) {
+      this.clock = (SyncroClock) event.getSource();
+    }
     if (!setNextLens()) {
       return;
     }
     EDENFrame frame = this.lens.poll();
+    DoubleSupplier master = this.master;
+    double now = master != null ? master.getAsDouble() : Double.NaN;
+    while (isLate(frame, now) && setNextLens() && this.lens.getUsed() > 0) {
+      frame.recycle();
+      this.dropped.incrementAndGet();
+      frame = this.lens.poll();
+    }
     if (frame != null) {
+      if (isLate(frame, now)) {
+        this.late.incrementAndGet();
+      } else if (!Double.isNaN(now)) {
+        this.onTime.incrementAndGet();
+      }
       if (this.frame != null) {
         this.lastIdentifier = this.frame.getIdentifier();
       }
+      EDENFrame retired;
       synchronized (this) {
+        retired = this.retired;
+        this.retired = this.frame;
         this.frame = frame;
       }
+      if (retired != null) {
+        retired.recycle();
+      }
     }
   }
 
@@ -123,22 +188,45 @@ public class MultiLensFrameRenderer extends EDENRenderer {
       height = component.getHeight();
       width = (int) Math.round(height * this.ratio);
     }
+    if (width != this.outputWidth || height != this.outputHeight) {
+      boolean grown = width > this.outputWidth || height > this.outputHeight;
+      this.outputWidth = width;
+      this.outputHeight = height;
+      this.lenses.forEach(lens -> lens.setOutputSize(width, height));
+      if (grown && this.refresh != null && isReduced()) {
+        this.refresh.run();
+      }
+    }
     g.setRenderingHint(
       RenderingHints.KEY_RENDERING,
       RenderingHints.VALUE_RENDER_SPEED
     );
-    g.drawImage(
-      this.frame.getImage(),
-      (int) Math.round(
-        ((double) component.getWidth() / 2) - ((double) width / 2)
-      ),
-      (int) Math.round(
-        ((double) component.getHeight() / 2) - ((double) height / 2)
-      ),
-      width,
-      height,
-      null
+    Image image = this.frame.getImage();
+    int x = (int) Math.round(
+      ((double) component.getWidth() / 2) - ((double) width / 2)
     );
+    int y = (int) Math.round(
+      ((double) component.getHeight() / 2) - ((double) height / 2)
+    );
+    SurfaceRing surfaces = this.surfaces;
+    if (
+      surfaces == null ||
+      !surfaces.draw(
+        g,
+        component.getGraphicsConfiguration(),
+        this.frame,
+        x,
+        y,
+        width,
+        height
+      )
+    ) {
+      if (image.getWidth(null) == width && image.getHeight(null) == height) {
+        g.drawImage(image, x, y, null);
+      } else {
+        g.drawImage(image, x, y, width, height, null);
+      }
+    }
     if (this.drawStatistics) {
       g.setFont(FONT);
       drawStatistics(component, g, width, height, time - this.time);
@@ -159,6 +247,84 @@ public class MultiLensFrameRenderer extends EDENRenderer {
     return this.frame == null ? Integer.MIN_VALUE : this.frame.getIdentifier();
   }
 
+  /**
+   * Returns whether the {@code Frame} of this {@code MultiLensFrameRenderer} is
+   * smaller than its output size
+   */
+  public synchronized boolean isReduced() {
+    return (
+      this.frame != null &&
+      !this.frame.covers(this.outputWidth, this.outputHeight)
+    );
+  }
+
+  /**
+   * Sets the action to be run on the painting {@code Thread} whenever the
+   * output of this {@code MultiLensFrameRenderer} grows past the resolution of
+   * its {@code Frame}. Passing {@code null} disables it.
+   */
+  public void setRefresh(Runnable refresh) {
+    this.refresh = refresh;
+  }
+
+  /**
+   * Returns whether {@code Frames} are drawn through {@code VolatileImage}
+   * surfaces
+   */
+  public boolean isVolatile() {
+    return this.surfaces != null;
+  }
+
+  /**
+   * Sets whether {@code Frames} are to be drawn through a {@code SurfaceRing}
+   * of {@code VolatileImage} surfaces, falling back to drawing them directly
+   * where they cannot be. Turning it off releases the surfaces.
+   */
+  public void setVolatile(boolean enabled) {
+    SurfaceRing surfaces = this.surfaces;
+    if (enabled == (surfaces != null)) {
+      return;
+    }
+    this.surfaces = enabled ? new SurfaceRing() : null;
+    if (surfaces != null) {
+      surfaces.flush();
+    }
+  }
+
+  /**
+   * Sets the A/V offset in seconds to be drawn with the render statistics of
+   * this {@code MultiLensFrameRenderer}
+   */
+  public void setOffset(double offset) {
+    this.offset = offset;
+  }
+
+  /**
+   * Sets the master clock, a supplier of the media time in seconds of the
+   * {@code Frame} due now, or of {@code NaN} if none is, and the time in
+   * seconds by which a {@code Frame} may trail it before it is late. Passing
+   * {@code null} disables dropping.
+   */
+  public void setMasterClock(DoubleSupplier master, double tolerance) {
+    this.tolerance = tolerance;
+    this.master = master;
+  }
+
+  /** Returns the number of late {@code Frames} dropped */
+  public long getDropped() {
+    return this.dropped.get();
+  }
+
+  /** Returns the number of late {@code Frames} shown */
+  public long getLate() {
+    return this.late.get();
+  }
+
+  /** Returns the number of {@code Frames} shown on time */
+  public long getOnTime() {
+    return this.onTime.get();
+  }
+
   /**
    * Returns the rendering aspect ratio of this {@code MultiLensFrameRenderer}
    */
@@ -186,7 +352,7 @@ public class MultiLensFrameRenderer extends EDENRenderer {
   }
 
   /**
-   * Assigns the FileFrameLens from which the next Frame is to be polled on the
+   * Assigns the FrameLens from which the next Frame is to be polled on the
    * next update
    */
   private boolean setNextLens() {
@@ -196,7 +362,7 @@ public class MultiLensFrameRenderer extends EDENRenderer {
     int initialId = this.reverse
       ? Integer.MIN_VALUE
       : Integer.MAX_VALUE, nearestId = initialId;
-    for (FileFrameLens lens : this.lenses) {
+    for (FrameLens lens : this.lenses) {
       int id = lens.getNextIdentifier();
       //    if ((this.frame == null
       //        || reverse && id < this.frame.getIdentifier()
@@ -217,6 +383,16 @@ public class MultiLensFrameRenderer extends EDENRenderer {
     return nearestId != initialId;
   }
 
+  /**
+   * Returns whether the given Frame, if any, trails the given master clock
+   * time by more than the tolerance
+   */
+  private boolean isLate(EDENFrame frame, double now) {
+    return (
+      frame != null && frame.getPresentationTime() < now - this.tolerance
+    );
+  }
+
   /** Draws rendering statistics with the given parameters */
   private void drawStatistics(
     RendererComponent component,
@@ -263,5 +439,63 @@ public class MultiLensFrameRenderer extends EDENRenderer {
       43
     );
     g.drawString("Frame: " + this.frame.getIdentifier(), 1, 58);
+    g.drawString(
+      "Setup: " +
+      formatMillis(this.lens.getSetupTime()) +
+      "  Decode: " +
+      formatMillis(this.lens.getDecodeTime()) +
+      " ms",
+      1,
+      73
+    );
+    SyncroClock clock = this.clock;
+    if (clock != null) {
+      g.drawString(
+        "Jitter: " +
+        formatMillis(clock.getJitter(0.5)) +
+        " / " +
+        formatMillis(clock.getJitter(0.99)) +
+        " ms  Coalesced: " +
+        clock.getCoalesced() +
+        "  A/V: " +
+        Math.round(this.offset * 1000) +
+        " ms",
+        1,
+        88
+      );
+    }
+    SurfaceRing surfaces = this.surfaces;
+    if (surfaces != null) {
+      g.drawString(
+        "Upload: " +
+        formatMillis(surfaces.getUploadTime()) +
+        " ms  Accelerated: " +
+        (surfaces.isAccelerated() ? "yes" : "no") +
+        "  Lost: " +
+        surfaces.getLosses(),
+        1,
+        103
+      );
+    }
+    if (this.master != null) {
+      g.drawString(
+        "Dropped: " +
+        this.dropped.get() +
+        "  Late: " +
+        this.late.get() +
+        "  On time: " +
+        this.onTime.get() +
+        "  Skipped: " +
+        this.lens.getSkipped(),
+        1,
+        118
+      );
+    }
+  }
+
+  /** Returns the given nanoseconds as milliseconds with one decimal place */
+  private String formatMillis(long nanos) {
+    long tenths = Math.round(nanos / 100000.0);
+    return (tenths / 10) + "." + (tenths % 10);
   }
 }
@@ -0,0 +1,170 @@
+package eden.common.video.render;
+
+import eden.common.video.EDENFrame;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.VolatileImage;
+
+/**
+ * A {@code SurfaceRing} keeps a small rotating set of {@code VolatileImage}
+ * surfaces, into which the images of {@code Frames} are uploaded once at the
+ * size at which they are drawn. Drawing them is then a blit between surfaces,
+ * which are accelerated where the rendering pipeline supports it. Each new
+ * {@code Frame} goes into the next surface in turn.
+ *
+ * Surfaces are validated before every draw. Those that were restored are
+ * uploaded again, and those that no longer fit the {@code
+ * GraphicsConfiguration} are made again. If one keeps losing its contents, the
+ * draw is left to the caller.
+ *
+ * A {@code SurfaceRing} is to be used only on the painting {@code Thread}.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class SurfaceRing {
+
+  /** Default number of surfaces */
+  public static final int DEFAULT_SIZE = 2;
+  /** Number of draw attempts before it is left to the caller */
+  private static final int ATTEMPTS = 3;
+  /** Surfaces by index */
+  private final VolatileImage[] surfaces;
+  /** Index of the current surface */
+  private int index;
+  /** Frame whose Image the current surface holds, if any */
+  private EDENFrame frame;
+  /** Duration in nanoseconds of the last upload */
+  private long uploadTime;
+  /** Number of uploads */
+  private long uploads;
+  /** Number of surfaces that lost their contents */
+  private long losses;
+
+  /** Makes a {@code SurfaceRing} with the default number of surfaces */
+  public SurfaceRing() {
+    this(DEFAULT_SIZE);
+  }
+
+  /** Makes a {@code SurfaceRing} with the given number of surfaces */
+  public SurfaceRing(int size) {
+    this.surfaces = new VolatileImage[Math.max(size, 1)];
+    this.index = 0;
+    this.frame = null;
+  }
+
+  /**
+   * Draws the {@code Image} of the given {@code Frame} at the given bounds with
+   * the given {@code Graphics2D} through a surface compatible with the given
+   * {@code GraphicsConfiguration}, uploading it first if it is not the last
+   * {@code Frame} drawn
+   *
+   * @return {@code true} If it was drawn;
+   *
+   * {@code false} If there is no {@code GraphicsConfiguration}, or a surface
+   * cannot be made or keeps losing its contents, in which case it is for the
+   * caller to draw
+   */
+  public boolean draw(
+    Graphics2D g,
+    GraphicsConfiguration configuration,
+    EDENFrame frame,
+    int x,
+    int y,
+    int width,
+    int height
+  ) {
+    if (configuration == null || width <= 0 || height <= 0) {
+      return false;
+    }
+    if (frame != this.frame) {
+      this.index = (this.index + 1) % this.surfaces.length;
+      this.frame = null;
+    }
+    for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+      VolatileImage surface = this.surfaces[this.index];
+      int status =
+        surface == null ||
+        surface.getWidth() != width ||
+        surface.getHeight() != height
+          ? VolatileImage.IMAGE_INCOMPATIBLE
+          : surface.validate(configuration);
+      if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+        if (surface != null) {
+          surface.flush();
+        }
+        surface = configuration.createCompatibleVolatileImage(width, height);
+        this.surfaces[this.index] = surface;
+        if (surface == null) {
+          return false;
+        }
+        surface.validate(configuration);
+        this.frame = null;
+      } else if (status == VolatileImage.IMAGE_RESTORED) {
+        this.frame = null;
+      }
+      if (this.frame == null) {
+        upload(surface, frame.getImage());
+        this.frame = frame;
+      }
+      g.drawImage(surface, x, y, null);
+      if (!surface.contentsLost()) {
+        return true;
+      }
+      this.frame = null;
+      this.losses++;
+    }
+    return false;
+  }
+
+  /** Releases all surfaces */
+  public void flush() {
+    for (int index = 0; index < this.surfaces.length; index++) {
+      if (this.surfaces[index] != null) {
+        this.surfaces[index].flush();
+        this.surfaces[index] = null;
+      }
+    }
+    this.frame = null;
+  }
+
+  /** Returns whether the current surface is accelerated */
+  public boolean isAccelerated() {
+    VolatileImage surface = this.surfaces[this.index];
+    return surface != null && surface.getCapabilities().isAccelerated();
+  }
+
+  /** Returns the duration in nanoseconds of the last upload */
+  public long getUploadTime() {
+    return this.uploadTime;
+  }
+
+  /** Returns the number of uploads */
+  public long getUploads() {
+    return this.uploads;
+  }
+
+  /** Returns the number of surfaces that lost their contents */
+  public long getLosses() {
+    return this.losses;
+  }
+
+  /** Draws the given Image over the whole of the given surface */
+  private void upload(VolatileImage surface, Image image) {
+    long time = System.nanoTime();
+    Graphics2D g = surface.createGraphics();
+    try {
+      g.setRenderingHint(
+        RenderingHints.KEY_INTERPOLATION,
+        RenderingHints.VALUE_INTERPOLATION_BILINEAR
+      );
+      g.drawImage(image, 0, 0, surface.getWidth(), surface.getHeight(), null);
+    } finally {
+      g.dispose();
+    }
+    this.uploadTime = System.nanoTime() - time;
+    this.uploads++;
+  }
+}
@@ -3,9 +3,13 @@ package eden.mjpegfplay;
 import static eden.common.shared.Constants.EOL;
 import static eden.common.shared.Constants.SPACE;
 import static eden.mjpegfplay.model.ApplicationInformation.*;
+import static eden.mjpegfplay.model.PlaybackProperties.*;
 
 import eden.mjpegfplay.presenter.ApplicationInstance;
+import eden.mjpegfplay.presenter.SequenceTools;
+import eden.mjpegfplay.presenter.exception.MalformedSequenceException;
 import eden.mjpegfplay.view.ConsoleInterface;
+import java.io.IOException;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 
@@ -14,7 +18,7 @@ import javax.swing.UnsupportedLookAndFeelException;
  * main method from which the application initializes.
  *
  * @author Brendon
- * @version u0r5, 05/05/2023.
+ * @version u0r7, 10/17/2026.
  */
 public class Main {
 
@@ -26,8 +30,11 @@ public class Main {
   public static void main(String[] arguments) {
     boolean console = false;
     boolean noOpenGl = false;
-    for (String argument : arguments) {
-      switch (argument.toLowerCase()) {
+    String pack = null;
+    String freeze = null;
+    String proxy = null;
+    for (int index = 0; index < arguments.length; index++) {
+      switch (arguments[index].toLowerCase()) {
         case "--console":
           console = true;
           break;
@@ -43,6 +50,54 @@ public class Main {
           break;
         case "--noopengl":
           noOpenGl = true;
+          break;
+        case "--thumbnails":
+          System.setProperty(THUMBNAILS, "true");
+          break;
+        case "--holds":
+          System.setProperty(HOLDS, "true");
+          break;
+        case "--directio":
+          System.setProperty(IO, IO_DIRECT);
+          break;
+        case "--preload":
+          System.setProperty(PRELOAD, PRELOAD_HEAP);
+          break;
+        case "--preloaddirect":
+          System.setProperty(PRELOAD, PRELOAD_DIRECT);
+          break;
+        case "--filelenses":
+          System.setProperty(LENS, LENS_FILE);
+          break;
+        case "--pipeline":
+          System.setProperty(LENS, LENS_PIPELINE);
+          break;
+        case "--pooled":
+          System.setProperty(LENS, LENS_POOLED);
+          break;
+        case "--noadaptive":
+          System.setProperty(ADAPTIVE, "false");
+          break;
+        case "--convert":
+          System.setProperty(CONVERT, "true");
+          break;
+        case "--volatile":
+          System.setProperty(VOLATILE, "true");
+          break;
+        case "--pack":
+          if (index + 1 < arguments.length) {
+            pack = arguments[++index];
+          }
+          break;
+        case "--makefreeze":
+          if (index + 1 < arguments.length) {
+            freeze = arguments[++index];
+          }
+          break;
+        case "--makeproxy":
+          if (index + 1 < arguments.length) {
+            proxy = arguments[++index];
+          }
       }
     }
     System.out.println(
@@ -59,12 +114,59 @@ public class Main {
       APPLICATION_URL +
       EOL +
       EOL +
-      "Usage: --console --nativelaf --noopengl" +
+      "Usage: --console --nativelaf --noopengl --holds --thumbnails" +
+      " --directio --preload --preloaddirect --filelenses --pipeline --pooled" +
+      " --noadaptive --convert --volatile" +
       EOL +
+      "       --pack <directory> --makefreeze <directory>" +
+      " --makeproxy <directory>" +
       EOL +
-      "The graphical interface will always be launched." +
+      EOL +
+      "The graphical interface will be launched unless a tool is given." +
       EOL
     );
+    if (pack != null) {
+      try {
+        System.out.println(
+          "Packed " + SequenceTools.pack(pack) + " frames into " + pack + "."
+        );
+      } catch (IOException | MalformedSequenceException exception) {
+        System.out.println("Cannot pack " + pack + ": " + exception);
+      }
+      return;
+    }
+    if (freeze != null) {
+      try {
+        int count = SequenceTools.makeFreezePoints(
+          freeze,
+          percent -> System.out.print("\rScanning " + percent + "%")
+        );
+        System.out.println(
+          EOL + "Wrote " + count + " freezing intervals into " + freeze + "."
+        );
+      } catch (IOException | MalformedSequenceException exception) {
+        System.out.println(
+          EOL + "Cannot make freeze points for " + freeze + ": " + exception
+        );
+      }
+      return;
+    }
+    if (proxy != null) {
+      try {
+        int count = SequenceTools.makeProxies(
+          proxy,
+          percent -> System.out.print("\rMaking " + percent + "%")
+        );
+        System.out.println(
+          EOL + "Made " + count + " proxy frames for " + proxy + "."
+        );
+      } catch (IOException | MalformedSequenceException exception) {
+        System.out.println(
+          EOL + "Cannot make proxy frames for " + proxy + ": " + exception
+        );
+      }
+      return;
+    }
     if (!noOpenGl) {
       System.setProperty("sun.java2d.opengl", "True");
     }
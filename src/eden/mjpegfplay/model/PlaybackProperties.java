@@ -0,0 +1,90 @@
+package eden.mjpegfplay.model;
+
+/**
+ * This class provides definitions to the system properties that tune playback,
+ * and their recognized values. They are usually set from command-line options
+ * before any {@code Sequence} is loaded.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class PlaybackProperties {
+
+  /** Frame file I/O mode */
+  public static final String IO = "eden.mjpegfplay.io";
+  /** I/O mode: Decode from file streams. This is the default. */
+  public static final String IO_STREAM = "stream";
+  /** I/O mode: Read frame files into direct buffers and decode from memory. */
+  public static final String IO_DIRECT = "direct";
+
+  /** Where encoded frames are to be preloaded in memory, if anywhere */
+  public static final String PRELOAD = "eden.mjpegfplay.preload";
+  /** Preload mode: Do not preload. This is the default. */
+  public static final String PRELOAD_NONE = "none";
+  /** Preload mode: Preload encoded frames onto the heap. */
+  public static final String PRELOAD_HEAP = "heap";
+  /** Preload mode: Preload encoded frames into direct buffers off the heap. */
+  public static final String PRELOAD_DIRECT = "direct";
+  /** Memory budget in MiB of preloaded encoded frames */
+  public static final String PRELOAD_BUDGET = "eden.mjpegfplay.preload.budget";
+
+  /**
+   * Whether adjacent duplicate frames are to be detected and shown by holding
+   * the first of them. It is off unless set to true, as detecting them reads
+   * every frame once. The result is saved next to the frames if their
+   * directory is writable, so that later loads skip the work.
+   */
+  public static final String HOLDS = "eden.mjpegfplay.holds";
+
+  /**
+   * Whether thumbnails embedded in frames are to be shown as proxies when the
+   * sequence has no proxy directory
+   */
+  public static final String THUMBNAILS = "eden.mjpegfplay.thumbnails";
+
+  /**
+   * Frame lens kind. It is {@value #LENS_POOLED} by default, unless the
+   * sequence has proxies or thumbnails to show, which only {@value #LENS_FILE}
+   * lenses show.
+   */
+  public static final String LENS = "eden.mjpegfplay.lens";
+  /** Lens kind: Independent {@code FileFrameLenses}. */
+  public static final String LENS_FILE = "file";
+  /** Lens kind: One {@code PipelineFrameLens} with a decoding pool. */
+  public static final String LENS_PIPELINE = "pipeline";
+  /**
+   * Lens kind: One {@code PooledFrameLens} with a work-stealing pool as large
+   * as the number of processors, of which, if adaptive, only as many workers
+   * decode as keep up with the sequence.
+   */
+  public static final String LENS_POOLED = "pooled";
+  /**
+   * Whether a {@code PooledFrameLens} is to adjust its parallelism at runtime
+   * to measured decode latency. It is on unless set to false.
+   */
+  public static final String ADAPTIVE = "eden.mjpegfplay.adaptive";
+  /**
+   * Whether frame lenses are to convert decoded images into display-compatible
+   * ones at the output size off the painting {@code Thread}
+   */
+  public static final String CONVERT = "eden.mjpegfplay.convert";
+  /**
+   * Whether frames are to be drawn through {@code VolatileImage} surfaces,
+   * uploaded once per frame, instead of straight from decoded images
+   */
+  public static final String VOLATILE = "eden.mjpegfplay.volatile";
+
+  /**
+   * Radius in number of frames of the window of decoded frames kept around the
+   * point. Zero disables it.
+   */
+  public static final String WINDOW = "eden.mjpegfplay.window";
+  /**
+   * Memory budget in MiB of the cache of decoded frames shared by all
+   * sequences. Zero disables it.
+   */
+  public static final String CACHE = "eden.mjpegfplay.cache";
+
+  /** To prevent instantiations of this class */
+  private PlaybackProperties() {}
+}
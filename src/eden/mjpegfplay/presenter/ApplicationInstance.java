@@ -31,12 +31,20 @@ import java.util.Map;
  * pattern of this application.
  *
  * @author Brendon
- * @version u0r5, 05/05/2023.
+ * @version u0r7, 10/17/2026.
  */
 public class ApplicationInstance implements Presenter {
 
   /** Metadata filename */
   public static final String METADATA_FILE = "metadata.edencfg";
+  /** Packed frames filename */
+  public static final String PACK_FILE = "frames.edenpack";
+  /** Frame index filename */
+  public static final String INDEX_FILE = "frames.edenidx";
+  /** Hold-frame map filename */
+  public static final String HOLD_FILE = "frames.edenhold";
+  /** Proxy frame directory name */
+  public static final String PROXY_DIRECTORY = "proxy";
   /** Application worker */
   private SequenceWorker worker = null;
   /** Application user interface */
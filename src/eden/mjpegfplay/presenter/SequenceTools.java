@@ -0,0 +1,312 @@
+package eden.mjpegfplay.presenter;
+
+import static eden.common.shared.Constants.EOL;
+import static eden.mjpegfplay.presenter.ApplicationInstance.METADATA_FILE;
+import static eden.mjpegfplay.presenter.ApplicationInstance.PACK_FILE;
+import static eden.mjpegfplay.presenter.ApplicationInstance.PROXY_DIRECTORY;
+
+import eden.common.io.ChannelFrameReader;
+import eden.common.io.ConfigFileReader;
+import eden.common.io.ConfigFileWriter;
+import eden.common.io.FrameIndex;
+import eden.common.io.FrameReader;
+import eden.common.io.HoldMap;
+import eden.common.io.PackedFrameReader;
+import eden.common.io.PackedFrameWriter;
+import eden.common.video.ImageDecoder;
+import eden.mjpegfplay.presenter.exception.BadMetadataException;
+import eden.mjpegfplay.presenter.exception.MalformedSequenceException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+
+/**
+ * This class provides offline tools that prepare sequence directories for
+ * playback. They are run from the command line instead of the graphical
+ * interface.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class SequenceTools {
+
+  /** Source subsampling factor of proxy frames in each direction */
+  public static final int PROXY_SUBSAMPLING = 4;
+
+  /** To prevent instantiations of this class */
+  private SequenceTools() {}
+
+  /**
+   * Packs the frame files of the sequence in the given directory into the file
+   * {@value ApplicationInstance#PACK_FILE} in the same directory, along with
+   * its metadata. Frame files are left as they are.
+   *
+   * @return The number of frames packed
+   *
+   * @throws IOException If a read or write operation fails or is interrupted
+   *
+   * @throws MalformedSequenceException If the metadata file is malformed
+   */
+  public static int pack(String path)
+    throws IOException, MalformedSequenceException {
+    path = toDirectory(path);
+    Map<String, String> map = new ConfigFileReader(path + METADATA_FILE)
+      .readToMap();
+    try {
+      return new PackedFrameWriter(
+        path,
+        map.get("extension"),
+        Integer.parseInt(map.get("start")),
+        Integer.parseInt(map.get("end"))
+      ).write(
+          path + PACK_FILE,
+          Files.readAllBytes(Paths.get(path + METADATA_FILE))
+        );
+    } catch (IllegalArgumentException exception) {
+      throw new BadMetadataException();
+    }
+  }
+
+  /**
+   * Scans the frames of the sequence in the given directory for runs of frames
+   * that show the same image, and writes their freezing intervals into its
+   * metadata as {@code freezePoints}. A run is either a frame followed by
+   * identical frames, or a frame followed by missing ones. Frames are hashed in
+   * parallel, from the file {@value ApplicationInstance#PACK_FILE} if it
+   * exists, or from frame files otherwise. The metadata is left as it is if no
+   * runs are found.
+   *
+   * @param progress Consumer to which the percentage of frames scanned is to
+   * be reported in order, at most once per percent, from any {@code Thread},
+   * or null
+   *
+   * @return The number of freezing intervals found
+   *
+   * @throws IOException If a read or write operation fails or is interrupted
+   *
+   * @throws MalformedSequenceException If the metadata file is malformed
+   */
+  public static int makeFreezePoints(String path, IntConsumer progress)
+    throws IOException, MalformedSequenceException {
+    path = toDirectory(path);
+    Map<String, String> map = new ConfigFileReader(path + METADATA_FILE)
+      .readToMap();
+    int start = getInt(map, "start");
+    int end = getInt(map, "end");
+    if (end < start) {
+      throw new BadMetadataException();
+    }
+    FrameReader reader;
+    IntPredicate exists;
+    if (Files.isRegularFile(Paths.get(path + PACK_FILE))) {
+      PackedFrameReader packed = new PackedFrameReader(path + PACK_FILE);
+      reader = packed;
+      exists = packed::contains;
+    } else {
+      FrameIndex index = FrameIndex.build(
+        path,
+        map.get("extension"),
+        start,
+        end
+      );
+      ChannelFrameReader files = new ChannelFrameReader(
+        path,
+        map.get("extension")
+      );
+      files.setIndex(index);
+      reader = files;
+      exists = index::contains;
+    }
+    HoldMap holds = HoldMap.build(
+      reader,
+      start,
+      end,
+      toPercent(progress, end - start + 1)
+    );
+    List<String> freezePoints = new ArrayList<>();
+    int shown = start;
+    for (int frame = start + 1; frame <= end; frame++) {
+      int source = exists.test(frame) ? holds.getSource(frame) : shown;
+      if (source == shown) {
+        if (frame == shown + 1) {
+          freezePoints.add(Integer.toString(shown));
+        }
+        continue;
+      }
+      if (frame > shown + 1) {
+        freezePoints.add(Integer.toString(frame));
+      }
+      shown = frame;
+    }
+    if (freezePoints.isEmpty()) {
+      return 0;
+    }
+    map.put("freezePoints", String.join("," + EOL, freezePoints));
+    new ConfigFileWriter(path + METADATA_FILE).write(map);
+    return (freezePoints.size() + 1) / 2;
+  }
+
+  /**
+   * Makes small copies of the frames of the sequence in the given directory
+   * into the directory {@value ApplicationInstance#PROXY_DIRECTORY} in the
+   * same directory, with the same names, at one in {@value #PROXY_SUBSAMPLING}
+   * pixels in each direction. Frames are decoded and written in parallel, from
+   * the file {@value ApplicationInstance#PACK_FILE} if it exists, or from frame
+   * files otherwise. Missing frames are skipped.
+   *
+   * @param progress Consumer to which the percentage of frames made is to be
+   * reported in order, at most once per percent, from any {@code Thread}, or
+   * null
+   *
+   * @return The number of proxies made
+   *
+   * @throws IOException If a read or write operation fails or is interrupted
+   *
+   * @throws MalformedSequenceException If the metadata file is malformed
+   */
+  public static int makeProxies(String path, IntConsumer progress)
+    throws IOException, MalformedSequenceException {
+    String source = toDirectory(path);
+    Map<String, String> map = new ConfigFileReader(source + METADATA_FILE)
+      .readToMap();
+    int start = getInt(map, "start");
+    int end = getInt(map, "end");
+    String extension = map.get("extension");
+    if (end < start || extension == null) {
+      throw new BadMetadataException();
+    }
+    String target = source + PROXY_DIRECTORY + File.separator;
+    Files.createDirectories(Paths.get(target));
+    PackedFrameReader packed = Files.isRegularFile(
+        Paths.get(source + PACK_FILE)
+      )
+      ? new PackedFrameReader(source + PACK_FILE)
+      : null;
+    ThreadLocal<ImageDecoder> decoders = ThreadLocal.withInitial(() -> {
+      ImageDecoder out = new ImageDecoder(extension);
+      out.setSubsampling(PROXY_SUBSAMPLING);
+      return out;
+    });
+    IntConsumer report = toPercent(progress, end - start + 1);
+    AtomicInteger done = new AtomicInteger(0);
+    AtomicInteger made = new AtomicInteger(0);
+    try {
+      IntStream.rangeClosed(start, end)
+        .parallel()
+        .forEach(frame -> {
+          try {
+            if (
+              makeProxy(
+                decoders.get(),
+                packed,
+                source,
+                target,
+                extension,
+                frame
+              )
+            ) {
+              made.incrementAndGet();
+            }
+          } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+          }
+          if (report != null) {
+            report.accept(done.incrementAndGet());
+          }
+        });
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+    return made.get();
+  }
+
+  /**
+   * Makes the proxy of the given frame with the given ImageDecoder from the
+   * given PackedFrameReader, if any, or else from its file in the given source
+   * directory, into the given target directory
+   *
+   * @return Whether it was made, which it is not if the frame is missing or
+   * cannot be decoded
+   */
+  private static boolean makeProxy(
+    ImageDecoder decoder,
+    PackedFrameReader packed,
+    String source,
+    String target,
+    String extension,
+    int frame
+  ) throws IOException {
+    BufferedImage image;
+    try {
+      image =
+        packed != null
+          ? decoder.decode(packed, frame)
+          : decoder.decode(new File(source + frame + "." + extension));
+    } catch (IIOException | NoSuchFileException exception) {
+      return false;
+    }
+    return (
+      image != null &&
+      ImageIO.write(
+        image,
+        extension,
+        new File(target + frame + "." + extension)
+      )
+    );
+  }
+
+  /**
+   * Returns a consumer of counts out of the given length that reports their
+   * percentages to the given consumer in order, at most once per percent, or
+   * null if it is null
+   */
+  private static IntConsumer toPercent(IntConsumer progress, int length) {
+    if (progress == null) {
+      return null;
+    }
+    AtomicInteger reported = new AtomicInteger(0);
+    return count -> {
+      int percent = (int) (count * 100L / length);
+      if (percent > reported.get()) {
+        synchronized (reported) {
+          if (percent > reported.get()) {
+            reported.set(percent);
+            progress.accept(percent);
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns the int value of the given key in the given metadata map
+   *
+   * @throws BadMetadataException If it is missing or not an int
+   */
+  private static int getInt(Map<String, String> map, String key)
+    throws BadMetadataException {
+    try {
+      return Integer.parseInt(map.get(key));
+    } catch (NumberFormatException exception) {
+      throw new BadMetadataException(key);
+    }
+  }
+
+  /** Returns the given path with a trailing separator */
+  private static String toDirectory(String path) {
+    return path.endsWith(File.separator) ? path : path + File.separator;
+  }
+}
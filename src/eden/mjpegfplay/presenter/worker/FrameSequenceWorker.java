@@ -1,17 +1,35 @@
 package eden.mjpegfplay.presenter.worker;
 
+import static eden.mjpegfplay.model.PlaybackProperties.*;
 import static eden.mjpegfplay.model.TransportConstants.*;
+import static eden.mjpegfplay.presenter.ApplicationInstance.HOLD_FILE;
+import static eden.mjpegfplay.presenter.ApplicationInstance.INDEX_FILE;
 import static eden.mjpegfplay.presenter.ApplicationInstance.METADATA_FILE;
+import static eden.mjpegfplay.presenter.ApplicationInstance.PACK_FILE;
+import static eden.mjpegfplay.presenter.ApplicationInstance.PROXY_DIRECTORY;
 import static eden.mjpegfplay.view.FrontPanelConstants.*;
 
 import eden.common.audio.OutputMixer;
 import eden.common.audio.OutputSource;
 import eden.common.clock.SimpleSyncroTimer;
 import eden.common.clock.SyncroClock;
+import eden.common.clock.SyncroScheduler;
+import eden.common.io.CachingFrameReader;
+import eden.common.io.ChannelFrameReader;
 import eden.common.io.ConfigFileReader;
+import eden.common.io.FrameIndex;
+import eden.common.io.FrameReader;
+import eden.common.io.HoldMap;
+import eden.common.io.PackedFrameReader;
 import eden.common.io.active.FileFrameLens;
+import eden.common.io.active.FrameLens;
+import eden.common.io.active.PipelineFrameLens;
+import eden.common.io.active.PooledFrameLens;
 import eden.common.model.sequence.FileFrameSequence;
 import eden.common.model.sequence.Sequence;
+import eden.common.video.FrameCache;
+import eden.common.video.FrameWindow;
+import eden.common.video.ImagePool;
 import eden.common.video.render.MultiLensFrameRenderer;
 import eden.common.video.render.RendererComponent;
 import eden.mjpegfplay.presenter.NullPresenter;
@@ -30,24 +48,61 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import javax.swing.SwingUtilities;
 import javax.sound.sampled.UnsupportedAudioFileException;
 
 /**
  * A {@code FrameSequenceWorker} manages a {@code FileFrameSequence} and its A/V
- * data workers in accordance to playback states. It can hold up to 127 threads
- * of {@code FileFrameLenses} and 127 audio tracks ({@code OutputSources}).
+ * data workers in accordance to playback states. It holds one {@code
+ * PooledFrameLens}, whose number of decoding workers follows the measured
+ * decode time, and up to 127 audio tracks ({@code OutputSources}).
+ * Alternatively, it can hold up to 127 threads of {@code FileFrameLenses}, as
+ * it does by default for sequences with proxies, or one {@code
+ * PipelineFrameLens} with as many decoding threads.
+ *
+ * If the directory holds a packed file, then Frames are read from it instead
+ * of from one file each. Otherwise, frame files are indexed in the background
+ * so that the Lenses skip missing ones. Adjacent duplicate frames are also
+ * found in the background, after which the Lenses show them by holding the
+ * first of them instead of decoding each.
+ *
+ * If the directory holds a proxy directory of small copies of the frames, then
+ * they are shown while scanning, and first on jumps until the frame itself is
+ * decoded.
  *
  * @author Brendon
- * @version u0r4, 11/06/2021.
+ * @version u0r7, 10/17/2026.
  *
  * @see FileFrameSequence
  * @see FileFrameLens
+ * @see PipelineFrameLens
+ * @see PooledFrameLens
  * @see OutputSource
  */
 public class FrameSequenceWorker implements SequenceWorker {
 
-  /** Default number of {@code FileFrameLenses} */
+  /**
+   * Default number of {@code FileFrameLenses}, or of workers with which an
+   * adaptive {@code PooledFrameLens} starts
+   */
   public static final byte DEFAULT_LENSES = 3;
+  /** Buffer capacity of each {@code FileFrameLens} in number of Frames */
+  protected static final short LENS_CAPACITY = 2;
+  /** Decode throughput headroom kept by adaptive lenses */
+  protected static final double ADAPTIVE_HEADROOM = 1.25;
+  /** Minimum time in nanoseconds between steps of adaptive lenses */
+  protected static final long ADAPTIVE_INTERVAL = 1000000000L;
+  /** Buffer state of adaptive lenses: Some ran dry. */
+  private static final byte FILL_DRY = 0;
+  /** Buffer state of adaptive lenses: Neither dry nor full. */
+  private static final byte FILL_PARTIAL = 1;
+  /** Buffer state of adaptive lenses: All full. */
+  private static final byte FILL_FULL = 2;
+  /**
+   * Number of frames by which the point may stray from the audio clock before
+   * the Lenses are realigned to it
+   */
+  protected static final int SYNC_TOLERANCE = 1;
   /** 9:59:59 (H:MM:SS) */
   protected static final short MAX_SECONDS = (60 * 60 * 9) - 1;
   /** Parent Presenter to which status events are to be notified */
@@ -56,8 +111,18 @@ public class FrameSequenceWorker implements SequenceWorker {
   protected final String path;
   /** Sequence on which this SequenceWorker works */
   protected final Sequence sequence;
+  /** Images into which the Lenses decode Frames */
+  protected final ImagePool pool;
+  /** Decoded Frames kept around the point, if enabled */
+  protected final FrameWindow window;
+  /** Decoded Frames kept across Sequences, if enabled */
+  protected final FrameCache cache;
+  /** Packed Frames, if the Sequence is packed */
+  protected final PackedFrameReader packed;
+  /** Encoded Frames preloaded in memory, if enabled */
+  protected final CachingFrameReader preload;
   /** Sequence data readers and buffers (Lenses) */
-  protected final List<FileFrameLens> lenses;
+  protected final List<FrameLens> lenses;
   /** EDENRenderer with which Frames are to be drawn */
   protected final MultiLensFrameRenderer renderer;
   /** JComponent to which Frames are to be drawn */
@@ -76,8 +141,31 @@ public class FrameSequenceWorker implements SequenceWorker {
   protected final List<Thread> threadsLens;
   /** Thread on which the working OutputMixer is to be run */
   protected final Thread threadMixer;
+  /** Thread on which encoded Frames are to be preloaded, if enabled */
+  protected final Thread threadPreload;
+  /** Thread on which frame files are to be indexed */
+  protected final Thread threadIndex;
+  /** Thread on which a proxy Frame is to be replaced, if any */
+  protected Thread threadRefine;
   /** StringBuilder with which status event Strings are to be built */
   protected final StringBuilder stringMaker;
+  /** Indicates whether lens parallelism is to follow decode latency */
+  protected final boolean adaptive;
+  /**
+   * Buffer states of adaptive lenses over the last second of updates, as a
+   * ring
+   */
+  private final byte[] fills;
+  /** Number of buffer states recorded, of which the ring holds the last */
+  private long filled;
+  /** Number of buffer states in the ring in which some lens ran dry */
+  private int dry;
+  /** Number of buffer states in the ring in which all lenses were full */
+  private int full;
+  /** Time in nanoseconds of the last step of adaptive lenses */
+  private long adapted;
+  /** Last measured A/V offset in seconds, positive if video leads */
+  protected volatile double offset;
 
   /**
    * Makes a {@code FrameSequenceWorker} with the given {@code Presenter} and
@@ -115,9 +203,20 @@ public class FrameSequenceWorker implements SequenceWorker {
     boolean dummy
   ) throws IOException, MalformedSequenceException {
     FileFrameSequence sequence = makeSequence(path);
+    this.adaptive = !"false".equals(System.getProperty(ADAPTIVE));
+    this.fills = new byte[Math.max(sequence.getRate(), 1)];
+    this.filled = 0;
+    this.dry = 0;
+    this.full = 0;
+    this.adapted = System.nanoTime();
     this.presenter = presenter == null ? new NullPresenter() : presenter;
     this.path = path;
     this.sequence = sequence;
+    this.pool = new ImagePool((short) ((lenses + 1) * LENS_CAPACITY));
+    this.window = makeWindow(sequence);
+    this.cache = makeCache();
+    this.packed = makePacked(path);
+    this.preload = makePreload(path, sequence);
     this.lenses = makeLenses(path, sequence, lenses);
     this.renderer =
       new MultiLensFrameRenderer(
@@ -125,14 +224,25 @@ public class FrameSequenceWorker implements SequenceWorker {
         (double) sequence.getWidth() / sequence.getHeight()
       );
     this.component = makeComponent();
+    this.renderer.setRefresh(() -> SwingUtilities.invokeLater(this::refresh));
+    this.renderer.setVolatile(Boolean.getBoolean(VOLATILE));
+    this.renderer.setMasterClock(this::getMasterTime, 1.0 / sequence.getRate());
+    this.lenses.forEach(lens -> lens.setMasterClock(this::getMasterTime));
     this.tracks = makeTracks();
     this.pilot = makePilot();
     this.mixer = makeMixer();
     this.clockRender = makeClockRender();
     this.clock = makeClock();
     this.threadMixer = makeDaemonThread(this.mixer, "/Mixer");
+    this.threadPreload =
+      this.preload != null
+        ? makeDaemonThread(this.preload, "/Preload")
+        : null;
+    this.threadIndex = makeDaemonThread(() -> index(sequence), "/Index");
     this.threadsLens = makeLensThreads();
+    this.threadRefine = null;
     this.stringMaker = new StringBuilder(TEXT_LENGTH);
+    this.offset = 0;
   }
 
   /** To prevent uninitialized instantiations of this class */
@@ -140,6 +250,11 @@ public class FrameSequenceWorker implements SequenceWorker {
     this.presenter = null;
     this.path = null;
     this.sequence = null;
+    this.pool = null;
+    this.window = null;
+    this.cache = null;
+    this.packed = null;
+    this.preload = null;
     this.tracks = null;
     this.pilot = null;
     this.mixer = null;
@@ -149,31 +264,40 @@ public class FrameSequenceWorker implements SequenceWorker {
     this.clock = null;
     this.component = null;
     this.threadMixer = null;
+    this.threadPreload = null;
+    this.threadIndex = null;
     this.threadsLens = null;
     this.stringMaker = null;
+    this.adaptive = false;
+    this.fills = null;
+    this.filled = 0;
+    this.dry = 0;
+    this.full = 0;
+    this.adapted = 0;
   }
 
   /** Updates the working {@code Sequence} of this {@code SequenceWorker} */
   public void update() {
     int frame;
     boolean sync = false;
-    if (
-      this.clock.getCounter() == 0 &&
-      this.sequence.getSkip() == PLAY &&
-      this.pilot != null
-    ) {
+    if (isSynchronized()) {
       frame = syncAV();
-      sync = true;
+      sync =
+        Math.abs(frame - this.sequence.getPoint() - this.sequence.getSkip()) >
+        SYNC_TOLERANCE;
+      measureOffset(frame);
     } else {
       frame = this.sequence.getPoint() + this.sequence.getSkip();
     }
     if (!this.sequence.setPoint(frame)) {
       updateOnBounds();
       pause(true);
-      this.lenses.forEach(FileFrameLens::await);
-      this.clockRender.tick();
+      present();
     } else if (sync) {
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
+    }
+    if (this.sequence.getSkip() != PAUSE) {
+      adapt();
     }
     if (
       (
@@ -191,7 +315,7 @@ public class FrameSequenceWorker implements SequenceWorker {
   public void play() {
     syncVA();
     this.sequence.setSkip(PLAY);
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(false);
     this.clockRender.start();
     this.clock.start();
@@ -220,7 +344,7 @@ public class FrameSequenceWorker implements SequenceWorker {
   @Override
   public void fastRewind() {
     this.sequence.setSkip(FAST_REWIND);
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(true);
     this.clockRender.start();
     this.clock.start();
@@ -232,7 +356,7 @@ public class FrameSequenceWorker implements SequenceWorker {
   @Override
   public void fastForward() {
     this.sequence.setSkip(FAST_FORWARD);
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(false);
     this.clockRender.start();
     this.clock.start();
@@ -249,10 +373,9 @@ public class FrameSequenceWorker implements SequenceWorker {
     ) {
       return;
     }
-    this.lenses.forEach(FileFrameLens::call);
-    this.lenses.forEach(FileFrameLens::await);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(true);
-    this.clockRender.tick();
+    present();
     this.clock.tick();
   }
 
@@ -265,10 +388,9 @@ public class FrameSequenceWorker implements SequenceWorker {
     ) {
       return;
     }
-    this.lenses.forEach(FileFrameLens::call);
-    this.lenses.forEach(FileFrameLens::await);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(false);
-    this.clockRender.tick();
+    present();
     this.clock.tick();
   }
 
@@ -290,10 +412,9 @@ public class FrameSequenceWorker implements SequenceWorker {
     if (!this.sequence.setPoint(point)) {
       return false;
     }
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     if (this.sequence.getSkip() == PAUSE) {
-      this.lenses.forEach(FileFrameLens::await);
-      this.clockRender.tick();
+      present();
       this.clock.tick();
     }
     syncVA();
@@ -304,7 +425,7 @@ public class FrameSequenceWorker implements SequenceWorker {
   @Override
   public void trickPlay() {
     this.sequence.setSkip(TRICKPLAY);
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     this.renderer.setReverse(true);
     this.clockRender.start();
     this.clock.start();
@@ -316,12 +437,28 @@ public class FrameSequenceWorker implements SequenceWorker {
   @Override
   public void dismiss() {
     this.threadMixer.interrupt();
+    if (this.threadPreload != null) {
+      this.threadPreload.interrupt();
+    }
+    this.threadIndex.interrupt();
+    interruptRefine();
     this.threadsLens.forEach(Thread::interrupt);
     this.clockRender.stop();
     this.clock.end();
     this.mixer.close();
     this.tracks.stream().filter(Objects::nonNull).forEach(OutputSource::close);
     this.renderer.clearComponents();
+    this.renderer.setVolatile(false);
+    if (this.window != null) {
+      this.window.clear();
+    }
+    if (this.preload != null) {
+      this.preload.clear();
+    }
+    if (this.cache != null) {
+      this.cache.remove(this.path);
+    }
+    this.pool.clear();
   }
 
   /** {@inheritDoc} */
@@ -419,7 +556,7 @@ public class FrameSequenceWorker implements SequenceWorker {
    */
   protected void pause(boolean onBound) {
     this.sequence.setSkip(PAUSE);
-    this.lenses.forEach(FileFrameLens::call);
+    this.lenses.forEach(FrameLens::call);
     this.clockRender.pause();
     this.clock.pause();
     this.mixer.setHold(true);
@@ -427,11 +564,160 @@ public class FrameSequenceWorker implements SequenceWorker {
       int frame = this.renderer.getFrame();
       if (frame != Integer.MIN_VALUE) {
         this.sequence.setPoint(frame);
+        restoreResolution();
       }
     }
     this.presenter.call(PAUSE);
   }
 
+  /**
+   * Shows the current frame again at the resolution needed by the output if it
+   * was shown coarser, such as from a proxy or before the output grew. This is
+   * to be called while paused.
+   */
+  protected void restoreResolution() {
+    if (!this.renderer.isReduced()) {
+      return;
+    }
+    this.lenses.forEach(FrameLens::call);
+    present();
+  }
+
+  /**
+   * Shows the current frame again at the resolution needed by the output if
+   * paused, after the output has grown
+   */
+  protected void refresh() {
+    if (this.sequence.getSkip() == PAUSE) {
+      restoreResolution();
+    }
+  }
+
+  /**
+   * Shows the next Frame of the Lenses once they have it. If the first Lens
+   * has proxies, then only it is awaited, for its proxy of the Frame, which is
+   * replaced in the background once the Frame is decoded.
+   */
+  protected void present() {
+    FrameLens lens = this.lenses.get(0);
+    if (lens.hasProxies()) {
+      lens.await();
+    } else {
+      this.lenses.forEach(FrameLens::await);
+    }
+    this.clockRender.tick();
+    if (this.renderer.isReduced()) {
+      refine();
+    }
+  }
+
+  /**
+   * Replaces the shown proxy Frame on the event dispatch Thread once the Lenses
+   * have the Frame itself, if still paused, abandoning any earlier replacement
+   */
+  protected synchronized void refine() {
+    interruptRefine();
+    this.threadRefine =
+      makeDaemonThread(
+        () -> {
+          this.lenses.forEach(FrameLens::await);
+          if (!Thread.currentThread().isInterrupted()) {
+            SwingUtilities.invokeLater(() -> {
+              if (this.sequence.getSkip() == PAUSE) {
+                this.clockRender.tick();
+              }
+            });
+          }
+        },
+        "/Refine"
+      );
+    this.threadRefine.start();
+  }
+
+  /** Interrupts the replacement of the shown proxy Frame, if any */
+  protected synchronized void interruptRefine() {
+    if (this.threadRefine != null) {
+      this.threadRefine.interrupt();
+      this.threadRefine = null;
+    }
+  }
+
+  /**
+   * Records the buffer state of adaptive PooledFrameLenses, then, at most once
+   * per {@value #ADAPTIVE_INTERVAL} nanoseconds, steps their parallelism
+   * toward what their measured decode time needs to keep up with the Sequence
+   * rate. Over the last second of updates, they grow if their buffers ran dry
+   * in over a quarter of them, and shrink only if their buffers were full in
+   * at least half of them.
+   */
+  protected void adapt() {
+    if (!this.adaptive) {
+      return;
+    }
+    recordFill();
+    long now = System.nanoTime();
+    int samples = (int) Math.min(this.filled, this.fills.length);
+    if (samples < this.fills.length || now - this.adapted < ADAPTIVE_INTERVAL) {
+      return;
+    }
+    this.adapted = now;
+    for (FrameLens lens : this.lenses) {
+      if (!(lens instanceof PooledFrameLens)) {
+        continue;
+      }
+      PooledFrameLens pooled = (PooledFrameLens) lens;
+      int parallelism = pooled.getParallelism();
+      int target = (int) Math.ceil(
+        (lens.getSetupTime() + lens.getDecodeTime()) *
+        this.sequence.getRate() *
+        ADAPTIVE_HEADROOM /
+        1000000000.0
+      );
+      if (this.dry * 4 > samples) {
+        target = Math.max(target, parallelism + 1);
+      } else if (this.full * 2 < samples) {
+        target = Math.max(target, parallelism);
+      }
+      pooled.setParallelism(parallelism + Integer.compare(target, parallelism));
+    }
+  }
+
+  /**
+   * Records the current buffer state of the adaptive PooledFrameLenses into
+   * the ring, replacing the oldest
+   */
+  private void recordFill() {
+    byte fill = FILL_FULL;
+    for (FrameLens lens : this.lenses) {
+      if (!(lens instanceof PooledFrameLens)) {
+        continue;
+      }
+      if (lens.getUsed() == 0) {
+        fill = FILL_DRY;
+        break;
+      }
+      if (lens.getFree() > 0) {
+        fill = FILL_PARTIAL;
+      }
+    }
+    int index = (int) (this.filled % this.fills.length);
+    if (this.filled >= this.fills.length) {
+      countFill(this.fills[index], -1);
+    }
+    this.fills[index] = fill;
+    countFill(fill, 1);
+    this.filled++;
+  }
+
+  /** Adds the given amount to the count of the given buffer state */
+  private void countFill(byte fill, int amount) {
+    if (fill == FILL_DRY) {
+      this.dry += amount;
+    } else if (fill == FILL_FULL) {
+      this.full += amount;
+    }
+  }
+
   /**
    * Jumps to either the starting or ending point depending on which half the
    * Sequence of this SequenceWorker is at
@@ -448,13 +734,67 @@ public class FrameSequenceWorker implements SequenceWorker {
   protected int syncAV() {
     return (
       (int) Math.floor(
-        this.pilot.getElapsedPercent(this.mixer.getLineFree()) *
+        (this.mixer.getClock() / this.pilot.getDurationSecond()) *
         (this.sequence.getLength() - 1)
       ) +
       this.sequence.getStart()
     );
   }
 
+  /**
+   * Returns whether this SequenceWorker plays forward with an audio pilot
+   * whose clock is set, in which case the point follows that clock
+   */
+  protected boolean isSynchronized() {
+    return (
+      this.sequence.getSkip() == PLAY &&
+      this.pilot != null &&
+      this.mixer.hasClock()
+    );
+  }
+
+  /**
+   * Returns the media time in seconds of the frame due now while playing, which
+   * follows the audio clock if synchronized, or {@code NaN} otherwise
+   */
+  protected double getMasterTime() {
+    if (this.sequence.getSkip() != PLAY) {
+      return Double.NaN;
+    }
+    if (isSynchronized()) {
+      return (
+        (this.mixer.getClock() / this.pilot.getDurationSecond()) *
+        (this.sequence.getLength() - 1) /
+        this.sequence.getRate()
+      );
+    }
+    return (
+      (double) (this.sequence.getPoint() - this.sequence.getStart()) /
+      this.sequence.getRate()
+    );
+  }
+
+  /**
+   * Measures the A/V offset between the rendered Frame and the given frame
+   * due by the audio clock
+   */
+  protected void measureOffset(int frame) {
+    int rendered = this.renderer.getFrame();
+    if (rendered == Integer.MIN_VALUE) {
+      return;
+    }
+    this.offset = (double) (rendered - frame) / this.sequence.getRate();
+    this.renderer.setOffset(this.offset);
+  }
+
+  /**
+   * Returns the last measured offset in seconds between the rendered {@code
+   * Frame} and the audio clock while playing, which is positive if video leads
+   */
+  public double getOffset() {
+    return this.offset;
+  }
+
   /**
    * Performs A/V syncing with the Sequence of this SequenceWorker as the pilot
    */
@@ -468,6 +808,9 @@ public class FrameSequenceWorker implements SequenceWorker {
    */
   protected void skipAudioTracks(double percent) {
     this.mixer.rewindAll();
+    if (this.pilot != null) {
+      this.mixer.setClock(percent * this.pilot.getDurationSecond());
+    }
     this.tracks.stream()
       .filter(source -> source != null)
       .forEachOrdered(source -> {
@@ -546,23 +889,299 @@ public class FrameSequenceWorker implements SequenceWorker {
   }
 
   /**
-   * Returns a List of the given number of FileFrameLens, each with its own
-   * offsets
+   * Returns a FrameWindow around the point of the given Sequence with the
+   * radius given by the {@value PlaybackProperties#WINDOW} system property, or
+   * null if it is zero
+   */
+  private FrameWindow makeWindow(FileFrameSequence sequence) {
+    int radius = Integer.getInteger(WINDOW, FrameWindow.DEFAULT_RADIUS);
+    return radius > 0 ? new FrameWindow(sequence, radius) : null;
+  }
+
+  /**
+   * Returns the shared FrameCache with its budget set by the {@value
+   * PlaybackProperties#CACHE} system property, or null if it is zero
+   */
+  private FrameCache makeCache() {
+    long budget = Long.getLong(CACHE, FrameCache.DEFAULT_BUDGET >> 20);
+    FrameCache.INSTANCE.setBudget(Math.max(budget, 0) << 20);
+    return budget > 0 ? FrameCache.INSTANCE : null;
+  }
+
+  /**
+   * Returns a PackedFrameReader over the file {@value ApplicationInstance#
+   * PACK_FILE} in the directory pointed by the given path, or null if there is
+   * none
+   */
+  private PackedFrameReader makePacked(String path) throws IOException {
+    String file = path + PACK_FILE;
+    return Files.isRegularFile(Paths.get(file))
+      ? new PackedFrameReader(file)
+      : null;
+  }
+
+  /**
+   * Returns the path to the directory {@value ApplicationInstance#
+   * PROXY_DIRECTORY} in the directory pointed by the given path, or null if
+   * there is none
    */
-  private List<FileFrameLens> makeLenses(
+  private String makeProxy(String path) {
+    String directory = path + PROXY_DIRECTORY + File.separator;
+    return Files.isDirectory(Paths.get(directory)) ? directory : null;
+  }
+
+  /**
+   * Returns a CachingFrameReader over the given Sequence, or its packed
+   * Frames if any, in accordance to the
+   * {@value PlaybackProperties#PRELOAD} system property with the budget given
+   * by the {@value PlaybackProperties#PRELOAD_BUDGET} system property, or null
+   * if encoded Frames are not to be preloaded
+   */
+  private CachingFrameReader makePreload(
+    String path,
+    FileFrameSequence sequence
+  ) {
+    String mode = System.getProperty(PRELOAD, PRELOAD_NONE);
+    if (!PRELOAD_HEAP.equals(mode) && !PRELOAD_DIRECT.equals(mode)) {
+      return null;
+    }
+    long budget = Long.getLong(
+      PRELOAD_BUDGET,
+      CachingFrameReader.DEFAULT_BUDGET >> 20
+    );
+    if (this.packed != null) {
+      return new CachingFrameReader(
+        this.packed,
+        sequence.getStart(),
+        sequence.getEnd(),
+        PRELOAD_DIRECT.equals(mode),
+        Math.max(budget, 0) << 20
+      );
+    }
+    return new CachingFrameReader(
+      path,
+      sequence.getExtension(),
+      sequence.getStart(),
+      sequence.getEnd(),
+      PRELOAD_DIRECT.equals(mode),
+      Math.max(budget, 0) << 20
+    );
+  }
+
+  /**
+   * Returns a List of FrameLenses of the kind given by the {@value
+   * PlaybackProperties#LENS} system property, all sharing the FrameWindow and
+   * the FrameCache of this SequenceWorker. Unless given, the kind is a pool,
+   * or independent lenses if there are proxies or thumbnails to show, which
+   * only they show.
+   */
+  private List<FrameLens> makeLenses(
     String path,
     FileFrameSequence sequence,
     byte size
   ) {
-    List<FileFrameLens> out = new ArrayList<>(size);
+    String proxy = makeProxy(path);
+    boolean thumbnails = Boolean.getBoolean(THUMBNAILS);
+    String kind = System.getProperty(
+      LENS,
+      proxy != null || thumbnails ? LENS_FILE : LENS_POOLED
+    );
+    List<FrameLens> out = makeLenses(path, sequence, size, kind);
+    out.forEach(lens -> {
+      lens.setWindow(this.window);
+      lens.setCache(this.cache);
+      if (lens instanceof FileFrameLens) {
+        lens.setProxy(proxy);
+        lens.setThumbnails(thumbnails);
+      }
+    });
+    return out;
+  }
+
+  /**
+   * Returns a List of the given number of FileFrameLens, each with its own
+   * offsets and, depending on the {@value PlaybackProperties#IO} system
+   * property, its own FrameReader. If the given kind is a pipeline, then the
+   * List instead holds one PipelineFrameLens with the given number of decoding
+   * Threads. If it is a pool, then the List holds one PooledFrameLens with as
+   * many workers as there are processors, of which, if adaptive, only the
+   * given number decode at first.
+   */
+  private List<FrameLens> makeLenses(
+    String path,
+    FileFrameSequence sequence,
+    byte size,
+    String kind
+  ) {
+    if (LENS_POOLED.equals(kind)) {
+      int processors = Runtime.getRuntime().availableProcessors();
+      List<FrameLens> out = new ArrayList<>(1);
+      out.add(
+        new PooledFrameLens(
+          path,
+          sequence,
+          (short) (LENS_CAPACITY * size),
+          this.adaptive ? size : processors,
+          processors,
+          this.pool,
+          this.preload != null ? this.preload : this.packed,
+          Boolean.getBoolean(CONVERT)
+        )
+      );
+      return out;
+    }
+    if (LENS_PIPELINE.equals(kind)) {
+      List<FrameLens> out = new ArrayList<>(1);
+      out.add(
+        new PipelineFrameLens(
+          path,
+          sequence,
+          (short) (LENS_CAPACITY * size),
+          size,
+          this.pool,
+          makeFrameReader(path, sequence),
+          Boolean.getBoolean(CONVERT)
+        )
+      );
+      return out;
+    }
+    List<FrameLens> out = new ArrayList<>(size);
     for (byte index = 0; index < size; index++) {
       out.add(
-        new FileFrameLens(path, sequence, (short) 2, index, (byte) (size - 1))
+        new FileFrameLens(
+          path,
+          sequence,
+          LENS_CAPACITY,
+          index,
+          (byte) (size - 1),
+          this.pool,
+          makeFrameReader(path, sequence),
+          Boolean.getBoolean(CONVERT)
+        )
       );
     }
     return out;
   }
 
+  /**
+   * Returns the preloading CachingFrameReader of this SequenceWorker, if any,
+   * or else its PackedFrameReader, if any, or else a FrameReader in accordance
+   * to the {@value PlaybackProperties#IO} system property, or null if frame
+   * files are to be decoded from streams, or read by default for a
+   * PipelineFrameLens
+   */
+  private FrameReader makeFrameReader(String path, FileFrameSequence sequence) {
+    if (this.preload != null) {
+      return this.preload;
+    }
+    if (this.packed != null) {
+      return this.packed;
+    }
+    switch (System.getProperty(IO, IO_STREAM)) {
+      case IO_DIRECT:
+        return new ChannelFrameReader(path, sequence.getExtension());
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Reads the saved FrameIndex of the given Sequence if it is current, or else
+   * builds and saves a new one, then hands it to the Lenses of this
+   * SequenceWorker. Failing to save it is not an error. Packed Sequences need
+   * no FrameIndex. The HoldMap follows, if enabled by the {@value
+   * PlaybackProperties#HOLDS} system property.
+   */
+  private void index(FileFrameSequence sequence) {
+    if (this.packed == null) {
+      indexFiles(sequence);
+    }
+    if (Boolean.getBoolean(HOLDS)) {
+      indexHolds(sequence);
+    }
+  }
+
+  /**
+   * Reads the saved FrameIndex of the given Sequence if it is current, or else
+   * builds and saves a new one, then hands it to the Lenses of this
+   * SequenceWorker
+   */
+  private void indexFiles(FileFrameSequence sequence) {
+    String file = this.path + INDEX_FILE;
+    FrameIndex out;
+    try {
+      out = FrameIndex.read(file);
+    } catch (IOException exception) {
+      out = null;
+    }
+    if (
+      out == null ||
+      !out.isCurrent(this.path, sequence.getStart(), sequence.getEnd())
+    ) {
+      try {
+        out =
+          FrameIndex.build(
+            this.path,
+            sequence.getExtension(),
+            sequence.getStart(),
+            sequence.getEnd()
+          );
+      } catch (IOException exception) {
+        return;
+      }
+      try {
+        out.write(file);
+      } catch (IOException exception) {}
+    }
+    if (!Thread.currentThread().isInterrupted()) {
+      FrameIndex index = out;
+      this.lenses.forEach(lens -> lens.setIndex(index));
+    }
+  }
+
+  /**
+   * Reads the saved HoldMap of the given Sequence if it is current, or else
+   * builds one from its frame files or packed Frames, then hands it to the
+   * Lenses of this SequenceWorker. A built HoldMap is saved only if the
+   * directory of the Sequence is writable.
+   */
+  private void indexHolds(FileFrameSequence sequence) {
+    String file = this.path + HOLD_FILE;
+    String source = this.packed != null ? this.path + PACK_FILE : this.path;
+    HoldMap out;
+    try {
+      out = HoldMap.read(file);
+    } catch (IOException exception) {
+      out = null;
+    }
+    if (
+      out == null ||
+      !out.isCurrent(source, sequence.getStart(), sequence.getEnd())
+    ) {
+      try {
+        out =
+          HoldMap.build(
+            this.packed != null
+              ? this.packed
+              : new ChannelFrameReader(this.path, sequence.getExtension()),
+            sequence.getStart(),
+            sequence.getEnd()
+          );
+      } catch (IOException exception) {
+        return;
+      }
+      if (Files.isWritable(Paths.get(this.path))) {
+        try {
+          out.write(file);
+        } catch (IOException exception) {}
+      }
+    }
+    if (!Thread.currentThread().isInterrupted()) {
+      HoldMap holds = out;
+      this.lenses.forEach(lens -> lens.setHolds(holds));
+    }
+  }
+
   /**
    * Returns a RendererComponent with the MultiLensFrameRenderer of this
    * SequenceWorker attached
@@ -632,20 +1251,28 @@ public class FrameSequenceWorker implements SequenceWorker {
 
   /**
    * Returns a SyncroClock with its fire rate set to the rate given by the
-   * Sequence of this SequenceWorker
+   * Sequence of this SequenceWorker, fired by the shared SyncroScheduler in
+   * phase with the SimpleSyncroTimer
    */
   private SyncroClock makeClockRender() {
-    SyncroClock out = new SyncroClock((short) this.sequence.getRate());
+    SyncroClock out = new SyncroClock(
+      (short) this.sequence.getRate(),
+      SyncroScheduler.getShared()
+    );
     out.addActionListener(this.component);
     return out;
   }
 
   /**
    * Returns a SimpleSyncroTimer with its fire rate set to the rate given by the
-   * Sequence of this SequencedWorker
+   * Sequence of this SequencedWorker, fired by the shared SyncroScheduler
    */
   private SimpleSyncroTimer makeClock() {
-    return new SimpleSyncroTimer(this::update, (short) this.sequence.getRate());
+    return new SimpleSyncroTimer(
+      this::update,
+      (short) this.sequence.getRate(),
+      SyncroScheduler.getShared()
+    );
   }
 
   /** Returns a new daemon Thread with the given Runnable and name */
@@ -670,9 +1297,12 @@ public class FrameSequenceWorker implements SequenceWorker {
   /** Initializes A/V workers and clocks for presentation */
   protected void initialize() {
     this.threadMixer.start();
+    if (this.threadPreload != null) {
+      this.threadPreload.start();
+    }
+    this.threadIndex.start();
     this.threadsLens.forEach(Thread::start);
-    this.lenses.forEach(FileFrameLens::await);
-    this.clockRender.tick();
+    present();
     this.presenter.call(IDLE);
     this.presenter.call(this.sequence.getName(), makeMessage());
   }
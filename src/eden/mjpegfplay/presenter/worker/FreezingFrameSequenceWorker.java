@@ -6,16 +6,13 @@ import static eden.mjpegfplay.presenter.ApplicationInstance.METADATA_FILE;
 import static eden.mjpegfplay.view.FrontPanelConstants.*;
 
 import eden.common.io.ConfigFileReader;
-import eden.common.io.active.FileFrameLens;
+import eden.common.io.active.FrameLens;
 import eden.mjpegfplay.presenter.Presenter;
 import eden.mjpegfplay.presenter.exception.BadFreezePointException;
 import eden.mjpegfplay.presenter.exception.BadMetadataException;
 import eden.mjpegfplay.presenter.exception.MalformedSequenceException;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -28,15 +25,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * This allows {@code FileFrameSequences} to achieve better overall compression
  * rations, although requiring more time and effort to be made.
  *
+ * Frames at freezing intervals are shown again whenever playback crosses them.
+ * With the shared {@code FrameCache} enabled, they are decoded once for as
+ * long as its budget allows.
+ *
  * @author Brendon
- * @version u0r3, 11/28/2018.
+ * @version u0r7, 10/17/2026.
  */
 public class FreezingFrameSequenceWorker
   extends FrameSequenceWorker
   implements Runnable {
 
-  /** Immutable List of freezing intervals */
-  private final List<Integer> freezePoints;
+  /** Sorted pairs of freezing interval starts and ends */
+  private final int[] freezePoints;
   /**
    * Indicates whether this FreezingFrameSequenceWorker is freezing its Sequence
    */
@@ -86,16 +87,17 @@ public class FreezingFrameSequenceWorker
   public void update() {
     int position;
     boolean sync = false;
-    if (
-      this.clock.getCounter() == 0 &&
-      this.sequence.getSkip() == PLAY &&
-      this.pilot != null
-    ) {
+    if (isSynchronized()) {
       position = syncAV();
-      sync = true;
+      sync =
+        Math.abs(position - this.position - this.skip) > SYNC_TOLERANCE;
+      measureOffset(getNextFrame(position));
     } else {
       position = this.position + this.skip;
     }
+    if (this.clock.getCounter() == 0 && this.skip != PAUSE) {
+      adapt();
+    }
     updateSpecial(position, sync);
   }
 
@@ -106,7 +108,7 @@ public class FreezingFrameSequenceWorker
     this.skip = PLAY;
     if (!this.freezing.get()) {
       this.sequence.setSkip(PLAY);
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
     }
     this.clockRender.start();
     this.clock.start();
@@ -134,7 +136,7 @@ public class FreezingFrameSequenceWorker
     this.skip = FAST_REWIND;
     if (!this.freezing.get()) {
       this.sequence.setSkip(FAST_REWIND);
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
     }
     this.clockRender.start();
     this.clock.start();
@@ -148,7 +150,7 @@ public class FreezingFrameSequenceWorker
     this.skip = FAST_FORWARD;
     if (!this.freezing.get()) {
       this.sequence.setSkip(FAST_FORWARD);
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
     }
     this.clockRender.start();
     this.clock.start();
@@ -165,10 +167,11 @@ public class FreezingFrameSequenceWorker
     this.position--;
     if (!this.freezing.get()) {
       this.sequence.setPoint(this.sequence.getPoint() - 1);
-      this.lenses.forEach(FileFrameLens::call);
-      this.lenses.forEach(FileFrameLens::await);
+      this.lenses.forEach(FrameLens::call);
+      present();
+    } else {
+      this.clockRender.tick();
     }
-    this.clockRender.tick();
     this.clock.tick();
   }
 
@@ -181,10 +184,11 @@ public class FreezingFrameSequenceWorker
     this.position++;
     if (!this.freezing.get()) {
       this.sequence.setPoint(this.sequence.getPoint() + 1);
-      this.lenses.forEach(FileFrameLens::call);
-      this.lenses.forEach(FileFrameLens::await);
+      this.lenses.forEach(FrameLens::call);
+      present();
+    } else {
+      this.clockRender.tick();
     }
-    this.clockRender.tick();
     this.clock.tick();
   }
 
@@ -215,8 +219,7 @@ public class FreezingFrameSequenceWorker
     updateSpecial(position, true);
     syncVA();
     if (this.skip == 0) {
-      this.lenses.forEach(FileFrameLens::await);
-      this.clockRender.tick();
+      present();
       this.clock.tick();
     }
     return true;
@@ -228,7 +231,7 @@ public class FreezingFrameSequenceWorker
     this.skip = TRICKPLAY;
     if (!this.freezing.get()) {
       this.sequence.setSkip(TRICKPLAY);
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
     }
     this.clockRender.start();
     this.clock.start();
@@ -242,7 +245,7 @@ public class FreezingFrameSequenceWorker
     this.skip = PAUSE;
     if (!this.freezing.get()) {
       this.sequence.setSkip(PAUSE);
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
     }
     this.clockRender.pause();
     this.clock.pause();
@@ -252,6 +255,7 @@ public class FreezingFrameSequenceWorker
       if (frame != Integer.MIN_VALUE) {
         this.position = frame;
         this.sequence.setPoint(frame);
+        restoreResolution();
       }
     }
     this.presenter.call(PAUSE);
@@ -294,10 +298,10 @@ public class FreezingFrameSequenceWorker
       updateOnBounds();
       this.position = this.sequence.getPoint();
       pause(true);
-      this.lenses.forEach(FileFrameLens::await);
+      this.lenses.forEach(FrameLens::await);
       this.clock.tick();
     } else if (sync) {
-      this.lenses.forEach(FileFrameLens::call);
+      this.lenses.forEach(FrameLens::call);
       this.position = position;
     } else {
       this.position = position;
@@ -315,7 +319,7 @@ public class FreezingFrameSequenceWorker
       this.index = 0;
       return this.sequence.getStart();
     } else if (this.position == this.sequence.getEnd()) {
-      this.index = this.freezePoints.size() - 2;
+      this.index = this.freezePoints.length - 2;
       return this.sequence.getEnd();
     }
     if (Math.abs(difference) <= FAST_FORWARD) {
@@ -332,16 +336,16 @@ public class FreezingFrameSequenceWorker
    * index.
    */
   private int getNextFreezePoint(int position) {
-    while (position >= this.freezePoints.get(this.index + 1)) {
-      if (this.index + 2 >= this.freezePoints.size()) {
+    while (position >= this.freezePoints[this.index + 1]) {
+      if (this.index + 2 >= this.freezePoints.length) {
         return position;
       }
       this.index += 2;
     }
-    if (position < this.freezePoints.get(this.index)) {
+    if (position < this.freezePoints[this.index]) {
       return position;
     }
-    return this.freezePoints.get(this.index);
+    return this.freezePoints[this.index];
   }
 
   /**
@@ -350,79 +354,90 @@ public class FreezingFrameSequenceWorker
    * index.
    */
   private int getLastFreezePoint(int position) {
-    while (position < this.freezePoints.get(this.index)) {
+    while (position < this.freezePoints[this.index]) {
       if (this.index - 2 < 0) {
         return position;
       }
       this.index -= 2;
     }
-    if (position >= this.freezePoints.get(this.index + 1)) {
+    if (position >= this.freezePoints[this.index + 1]) {
       return position;
     }
-    return this.freezePoints.get(this.index);
+    return this.freezePoints[this.index];
   }
 
   /**
    * Returns the frame affected by freezing based on the given position. This
-   * method traverses over the freezing intervals forward from the start.
+   * method binary searches the freezing intervals for the last one that starts
+   * at or before the given position.
    */
   private int searchFreezePoint(int position) {
-    for (int index = 0; index < this.freezePoints.size(); index += 2) {
-      if (
-        position >= this.freezePoints.get(index) &&
-        position < this.freezePoints.get(index + 1)
-      ) {
-        this.index = index;
-        return this.freezePoints.get(index);
-      } else if (position < this.freezePoints.get(index)) {
-        this.index = index;
-        return position;
+    int low = 0;
+    int high = this.freezePoints.length / 2 - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (this.freezePoints[middle * 2] <= position) {
+        low = middle + 1;
+      } else {
+        high = middle - 1;
       }
     }
-    this.index = this.freezePoints.size() - 2;
+    if (high < 0) {
+      this.index = 0;
+      return position;
+    }
+    int index = high * 2;
+    if (position < this.freezePoints[index + 1]) {
+      this.index = index;
+      return this.freezePoints[index];
+    }
+    this.index = Math.min(index + 2, this.freezePoints.length - 2);
     return position;
   }
 
   /**
-   * Returns an immutable List of freezing intervals from the metadata file in
-   * the directory pointed by the path of this FreezingSequenceWorker
+   * Returns sorted pairs of freezing interval starts and ends from the
+   * metadata file in the directory pointed by the path of this
+   * FreezingSequenceWorker
    */
-  private List<Integer> makeFreezePoints()
+  private int[] makeFreezePoints()
     throws IOException, MalformedSequenceException {
-    List<Integer> out = new ArrayList<>();
-    List<String> freezePoints;
+    String[] freezePoints;
     try {
       freezePoints =
-        Arrays.asList(
-          new ConfigFileReader(this.path + METADATA_FILE)
-            .read("freezePoints")
-            .split(",")
-        );
+        new ConfigFileReader(this.path + METADATA_FILE)
+          .read("freezePoints")
+          .split(",");
     } catch (NoSuchElementException exception) {
       throw new BadMetadataException("freezePoints");
     }
-    if (freezePoints.get(freezePoints.size() - 1).equals(NUL_STRING)) {
-      freezePoints.remove(freezePoints.size() - 1);
-    }
-    for (int index = 0; index < freezePoints.size(); index++) {
+    int[] out = new int[freezePoints.length + 1];
+    int length = 0;
+    for (String item : freezePoints) {
+      if (item.trim().equals(NUL_STRING)) {
+        continue;
+      }
       int freezePoint;
       try {
-        freezePoint = Integer.parseInt(freezePoints.get(index));
+        freezePoint = Integer.parseInt(item.trim());
       } catch (NumberFormatException exception) {
-        throw new BadMetadataException(freezePoints.get(index));
+        throw new BadMetadataException(item);
       }
       if (
-        (index > 0 && freezePoint < out.get(index - 1)) ||
+        (length > 0 && freezePoint < out[length - 1]) ||
         freezePoint < this.sequence.getStart() ||
         freezePoint > this.sequence.getEnd()
       ) {
         throw new BadFreezePointException(freezePoint);
       }
-      out.add(freezePoint);
+      out[length++] = freezePoint;
+    }
+    if (length == 0) {
+      throw new BadMetadataException("freezePoints");
     }
-    if (out.size() % 2 != 0) {
-      out.add(this.sequence.getEnd());
+    if (length % 2 != 0) {
+      out[length++] = this.sequence.getEnd();
     }
-    return Collections.unmodifiableList(out);
+    return Arrays.copyOf(out, length);
   }
 }
@@ -7,6 +7,7 @@ import static eden.mjpegfplay.view.FrontPanelConstants.*;
 import eden.common.audio.OutputMixer;
 import eden.common.audio.OutputSource;
 import eden.common.clock.SimpleSyncroTimer;
+import eden.common.clock.SyncroScheduler;
 import eden.common.io.ConfigFileReader;
 import eden.common.model.sequence.Sequence;
 import eden.common.video.render.RendererComponent;
@@ -32,7 +33,7 @@ import javax.sound.sampled.UnsupportedAudioFileException;
  * concurrently.
  *
  * @author Brendon
- * @version u0r4, 11/06/2021.
+ * @version u0r7, 10/17/2026.
  */
 public class MusicPlaylistWorker implements SequenceWorker {
 
@@ -430,10 +431,14 @@ public class MusicPlaylistWorker implements SequenceWorker {
 
   /**
    * Returns a SimpleSyncroTimer that handles end-of-track detection and panel
-   * display updates
+   * display updates, fired by the shared SyncroScheduler
    */
   private SimpleSyncroTimer makeClock() {
-    return new SimpleSyncroTimer(this::update, (short) 50);
+    return new SimpleSyncroTimer(
+      this::update,
+      (short) 50,
+      SyncroScheduler.getShared()
+    );
   }
 
   /** Returns a new daemon Thread with the given Runnable and name */
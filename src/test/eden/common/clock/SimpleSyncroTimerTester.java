@@ -0,0 +1,66 @@
+package eden.common.clock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs behavior tests on {@code SimpleSyncroTimer}. Run with assertions
+ * enabled ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class SimpleSyncroTimerTester {
+
+  /** Fire rate of the test timers */
+  public static final short RATE = 50;
+  /** Duration in milliseconds of the stall */
+  public static final long STALL = 300;
+
+  public static void main(String[] args) throws Exception {
+    testSkip();
+    testBurst();
+    System.out.println("SimpleSyncroTimerTester: OK");
+  }
+
+  /** Checks that a stall is skipped by default and counted once */
+  public static void testSkip() throws Exception {
+    AtomicInteger runs = new AtomicInteger(0);
+    SimpleSyncroTimer timer = new SimpleSyncroTimer(stallOnce(runs), RATE);
+    assert timer.getCatchUp() == SimpleSyncroTimer.CATCH_UP_SKIP;
+    timer.start();
+    Thread.sleep(1000);
+    timer.end();
+    assert timer.getOverruns() == 1 : timer.getOverruns();
+    assert timer.getSkipped() >= RATE * STALL / 1000 - 2 : timer.getSkipped();
+    assert runs.get() <= RATE - timer.getSkipped() + 2 : runs.get();
+  }
+
+  /**
+   * Checks that a stall is made up back to back by the burst policy, and
+   * counted once however many runs it replays
+   */
+  public static void testBurst() throws Exception {
+    AtomicInteger runs = new AtomicInteger(0);
+    SimpleSyncroTimer timer = new SimpleSyncroTimer(stallOnce(runs), RATE);
+    timer.setCatchUp(SimpleSyncroTimer.CATCH_UP_BURST);
+    timer.start();
+    Thread.sleep(1000);
+    timer.end();
+    assert timer.getOverruns() == 1 : timer.getOverruns();
+    assert timer.getSkipped() == 0 : timer.getSkipped();
+    assert runs.get() >= RATE - 2 : runs.get();
+  }
+
+  /** Returns a task that counts its runs, stalling on the fifth */
+  private static Runnable stallOnce(AtomicInteger runs) {
+    return () -> {
+      if (runs.incrementAndGet() == 5) {
+        try {
+          Thread.sleep(STALL);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,172 @@
+package eden.common.clock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs behavior tests on {@code SyncroScheduler}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class SyncroSchedulerTester {
+
+  /** Fire rate of the test timers */
+  public static final short RATE = 50;
+
+  public static void main(String[] args) throws Exception {
+    testThrowing();
+    testBlocking();
+    testPhase();
+    testRestart();
+    System.out.println("SyncroSchedulerTester: OK");
+  }
+
+  /** Checks that a timer that throws does not stop the others */
+  public static void testThrowing() throws Exception {
+    Thread.UncaughtExceptionHandler handler =
+      Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler((thread, exception) -> {});
+    SyncroScheduler scheduler = new SyncroScheduler("Test");
+    AtomicInteger count = new AtomicInteger(0);
+    EDENTimer throwing = new Counter(RATE) {
+      @Override
+      public void tick() {
+        throw new IllegalStateException();
+      }
+    };
+    Counter counter = new Counter(RATE, count);
+    scheduler.add(throwing);
+    scheduler.add(counter);
+    Thread.sleep(500);
+    scheduler.remove(throwing);
+    scheduler.remove(counter);
+    Thread.setDefaultUncaughtExceptionHandler(handler);
+    assert count.get() >= RATE / 4 : count.get();
+  }
+
+  /**
+   * Checks that a scheduled SimpleSyncroTimer whose task blocks does not hold
+   * up another timer on the same scheduler
+   */
+  public static void testBlocking() throws Exception {
+    SyncroScheduler scheduler = new SyncroScheduler("Test");
+    AtomicInteger count = new AtomicInteger(0);
+    SimpleSyncroTimer blocking = new SimpleSyncroTimer(
+      () -> {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      },
+      RATE,
+      scheduler
+    );
+    SimpleSyncroTimer counting = new SimpleSyncroTimer(
+      count::incrementAndGet,
+      RATE,
+      scheduler
+    );
+    blocking.start();
+    counting.start();
+    Thread.sleep(500);
+    counting.end();
+    blocking.end();
+    assert count.get() >= RATE / 4 : count.get();
+    assert scheduler.size() == 0 : scheduler.size();
+  }
+
+  /**
+   * Checks that a scheduled SimpleSyncroTimer runs its task again when started
+   * after it was ended
+   */
+  public static void testRestart() throws Exception {
+    SyncroScheduler scheduler = new SyncroScheduler("Test");
+    AtomicInteger count = new AtomicInteger(0);
+    SimpleSyncroTimer timer = new SimpleSyncroTimer(
+      count::incrementAndGet,
+      RATE,
+      scheduler
+    );
+    timer.start();
+    Thread.sleep(200);
+    timer.end();
+    int ended = count.get();
+    timer.start();
+    Thread.sleep(500);
+    timer.end();
+    assert count.get() - ended >= RATE / 4 : count.get() - ended;
+  }
+
+  /**
+   * Checks that timers of the same rate registered apart are fired in the
+   * same pass
+   */
+  public static void testPhase() throws Exception {
+    SyncroScheduler scheduler = new SyncroScheduler("Test");
+    AtomicLong first = new AtomicLong(0);
+    AtomicLong worst = new AtomicLong(0);
+    EDENTimer a = new Counter(RATE) {
+      @Override
+      public void tick() {
+        first.set(System.nanoTime());
+      }
+    };
+    EDENTimer b = new Counter(RATE) {
+      @Override
+      public void tick() {
+        long gap = System.nanoTime() - first.get();
+        worst.set(Math.max(worst.get(), gap));
+      }
+    };
+    scheduler.add(a);
+    Thread.sleep(113);
+    scheduler.add(b);
+    Thread.sleep(500);
+    scheduler.remove(a);
+    scheduler.remove(b);
+    assert worst.get() < a.getPeriod() / 2 : worst.get();
+  }
+
+  /** An EDENTimer that counts its ticks */
+  private static class Counter extends EDENTimer {
+
+    /** Tick count */
+    private final AtomicInteger count;
+
+    /** Makes a Counter with the given fire rate */
+    Counter(short fireRate) {
+      this(fireRate, new AtomicInteger(0));
+    }
+
+    /** Makes a Counter with the given fire rate and tick count */
+    Counter(short fireRate, AtomicInteger count) {
+      super(fireRate);
+      this.count = count;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void tick() {
+      this.count.incrementAndGet();
+    }
+
+    @Override
+    public void setFireRate(short fireRate) {}
+
+    @Override
+    public boolean isRunning() {
+      return true;
+    }
+  }
+}
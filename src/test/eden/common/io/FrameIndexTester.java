@@ -0,0 +1,58 @@
+package eden.common.io;
+
+import java.io.File;
+
+/**
+ * Runs behavior tests on {@code FrameIndex}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameIndexTester {
+
+  public static void main(String[] args) throws Exception {
+    testBuild();
+    testRoundTrip();
+    System.out.println("FrameIndexTester: OK");
+  }
+
+  /** Checks that missing and empty files are counted missing */
+  public static void testBuild() throws Exception {
+    int[] sizes = PackedFrameTester.SIZES;
+    String path = PackedFrameTester.make();
+    FrameIndex index = FrameIndex.build(path, "bin", 1, sizes.length);
+    for (int frame = 1; frame <= sizes.length; frame++) {
+      int size = sizes[frame - 1];
+      assert index.getSize(frame) == (size > 0 ? size : -1) : frame;
+      assert index.contains(frame) == size > 0 : frame;
+    }
+    assert !index.contains(0);
+    assert index.getSize(sizes.length + 1) == -1;
+    assert index.getLastModified(3) == 0;
+    assert index.getLastModified(1) > 0;
+    assert index.getMissing() == 2 : index.getMissing();
+    assert index.getMaximumSize() == 7 : index.getMaximumSize();
+    assert index.isCurrent(path, 1, sizes.length);
+    assert !index.isCurrent(path, 2, sizes.length);
+  }
+
+  /** Checks that a saved index reads back the same */
+  public static void testRoundTrip() throws Exception {
+    int[] sizes = PackedFrameTester.SIZES;
+    String path = PackedFrameTester.make();
+    FrameIndex index = FrameIndex.build(path, "bin", 1, sizes.length);
+    File file = File.createTempFile("index", ".edenindx");
+    file.deleteOnExit();
+    index.write(file.getPath());
+    FrameIndex read = FrameIndex.read(file.getPath());
+    assert read.getStart() == 1;
+    assert read.getEnd() == sizes.length;
+    assert read.getMissing() == index.getMissing();
+    assert read.getMaximumSize() == index.getMaximumSize();
+    for (int frame = 1; frame <= sizes.length; frame++) {
+      assert read.getSize(frame) == index.getSize(frame) : frame;
+      assert read.getLastModified(frame) == index.getLastModified(frame);
+    }
+  }
+}
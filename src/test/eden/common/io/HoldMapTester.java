@@ -0,0 +1,106 @@
+package eden.common.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Runs behavior tests on {@code HoldMap}. Run with assertions enabled ({@code
+ * java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class HoldMapTester {
+
+  /**
+   * Frame contents from frame 1, where null is missing. Frames 3 and 4 match
+   * in size but not in bytes.
+   */
+  private static final byte[][] FRAMES = {
+    { 1, 2 },
+    { 1, 2 },
+    { 3, 4, 5 },
+    { 3, 5, 4 },
+    { 3, 5, 4 },
+    { 3, 5, 4 },
+    null,
+    { 3, 5, 4 },
+    { 6 },
+  };
+
+  public static void main(String[] args) throws Exception {
+    testBuild();
+    testRoundTrip();
+    testBadFile();
+    System.out.println("HoldMapTester: OK");
+  }
+
+  /**
+   * Checks that runs of identical adjacent frames map to their first frame,
+   * and that missing frames break runs
+   */
+  public static void testBuild() throws Exception {
+    HoldMap map = build();
+    int[] sources = { 1, 1, 3, 4, 4, 4, 7, 8, 9 };
+    for (int frame = 1; frame <= sources.length; frame++) {
+      assert map.getSource(frame) == sources[frame - 1] : frame;
+    }
+    assert map.getSource(0) == 0;
+    assert map.getSource(10) == 10;
+    assert map.getHeld() == 3 : map.getHeld();
+  }
+
+  /**
+   * Checks that a saved map reads back the same and is current for its range
+   * only
+   */
+  public static void testRoundTrip() throws Exception {
+    HoldMap map = build();
+    File file = File.createTempFile("hold", ".edenhold");
+    file.deleteOnExit();
+    map.write(file.getPath());
+    HoldMap read = HoldMap.read(file.getPath());
+    assert read.getStart() == 1;
+    assert read.getEnd() == FRAMES.length;
+    assert read.getHeld() == map.getHeld();
+    for (int frame = 1; frame <= FRAMES.length; frame++) {
+      assert read.getSource(frame) == map.getSource(frame) : frame;
+    }
+    assert read.isCurrent(file.getPath(), 1, FRAMES.length);
+    assert !read.isCurrent(file.getPath(), 1, FRAMES.length + 1);
+  }
+
+  /** Checks that a missing or foreign file is refused */
+  public static void testBadFile() throws Exception {
+    File file = File.createTempFile("hold", ".edenhold");
+    file.deleteOnExit();
+    try {
+      HoldMap.read(file.getPath());
+      assert false;
+    } catch (IOException exception) {
+      assert !(exception instanceof NoSuchFileException);
+    }
+    file.delete();
+    try {
+      HoldMap.read(file.getPath());
+      assert false;
+    } catch (NoSuchFileException exception) {}
+  }
+
+  /** Builds a HoldMap of the test frames */
+  private static HoldMap build() throws Exception {
+    return HoldMap.build(
+      frame -> {
+        byte[] bytes = FRAMES[frame - 1];
+        if (bytes == null) {
+          throw new NoSuchFileException(Integer.toString(frame));
+        }
+        return ByteBuffer.wrap(bytes);
+      },
+      1,
+      FRAMES.length
+    );
+  }
+}
@@ -0,0 +1,96 @@
+package eden.common.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Runs behavior tests on {@code PackedFrameWriter} and {@code
+ * PackedFrameReader}. Run with assertions enabled ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class PackedFrameTester {
+
+  /** Frame file sizes in bytes from frame 1, where -1 is missing */
+  static final int[] SIZES = { 3, 7, -1, 0, 5 };
+
+  public static void main(String[] args) throws Exception {
+    testRoundTrip();
+    testBadFile();
+    System.out.println("PackedFrameTester: OK");
+  }
+
+  /**
+   * Checks that packed frames and metadata read back the same, and that
+   * missing frames stay missing
+   */
+  public static void testRoundTrip() throws Exception {
+    String path = make();
+    File file = File.createTempFile("frames", ".edenpack");
+    file.deleteOnExit();
+    byte[] metadata = { 9, 8, 7 };
+    int packed = new PackedFrameWriter(path, "bin", 1, SIZES.length).write(
+      file.getPath(),
+      metadata
+    );
+    assert packed == 4 : packed;
+    PackedFrameReader reader = new PackedFrameReader(file.getPath());
+    assert reader.getStart() == 1;
+    assert reader.getEnd() == SIZES.length;
+    assert Arrays.equals(reader.getMetadata(), metadata);
+    for (int frame = 1; frame <= SIZES.length; frame++) {
+      if (SIZES[frame - 1] < 0) {
+        assert !reader.contains(frame);
+        try {
+          reader.read(frame);
+          assert false;
+        } catch (NoSuchFileException exception) {}
+        continue;
+      }
+      assert reader.contains(frame);
+      ByteBuffer buffer = reader.read(frame);
+      assert buffer.remaining() == SIZES[frame - 1] : frame;
+      while (buffer.hasRemaining()) {
+        assert buffer.get() == frame : frame;
+      }
+    }
+    assert !reader.contains(0);
+    assert !reader.contains(SIZES.length + 1);
+  }
+
+  /** Checks that a foreign file is refused */
+  public static void testBadFile() throws Exception {
+    File file = File.createTempFile("frames", ".edenpack");
+    file.deleteOnExit();
+    Files.write(file.toPath(), new byte[64]);
+    try {
+      new PackedFrameReader(file.getPath());
+      assert false;
+    } catch (IOException exception) {}
+  }
+
+  /**
+   * Writes frame files of the test sizes into a new temporary directory, then
+   * returns its path with a trailing separator. Each byte is its frame number.
+   */
+  static String make() throws Exception {
+    Path out = Files.createTempDirectory("frames");
+    out.toFile().deleteOnExit();
+    for (int frame = 1; frame <= SIZES.length; frame++) {
+      if (SIZES[frame - 1] < 0) {
+        continue;
+      }
+      byte[] bytes = new byte[SIZES[frame - 1]];
+      Arrays.fill(bytes, (byte) frame);
+      File file = Files.write(out.resolve(frame + ".bin"), bytes).toFile();
+      file.deleteOnExit();
+    }
+    return out + File.separator;
+  }
+}
@@ -0,0 +1,36 @@
+package eden.common.io.active;
+
+/**
+ * Runs behavior tests on {@code FrameLens}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameLensTester {
+
+  public static void main(String[] args) {
+    testSubsampling();
+    System.out.println("FrameLensTester: OK");
+  }
+
+  /**
+   * Checks that subsampling factors are powers of two up to the maximum that
+   * keep the source at or above the output size
+   */
+  public static void testSubsampling() {
+    int[] expected = { 1, 2, 2, 4, 4, 4, 4, 8, 8, 8, 8, 8 };
+    for (int ratio = 1; ratio <= expected.length; ratio++) {
+      int out = FrameLens.getSubsampling(
+        1920,
+        1080,
+        1920 / ratio,
+        1080 / ratio
+      );
+      assert out == expected[ratio - 1] : ratio + ": " + out;
+    }
+    assert FrameLens.getSubsampling(1920, 1080, 0, 0) == 1;
+    assert FrameLens.getSubsampling(1920, 1080, 3840, 2160) == 1;
+    assert FrameLens.getSubsampling(1920, 1080, 640, 1080) == 1;
+  }
+}
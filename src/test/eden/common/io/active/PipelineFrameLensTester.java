@@ -0,0 +1,108 @@
+package eden.common.io.active;
+
+import static eden.common.io.active.TestSequences.*;
+
+import eden.common.io.ChannelFrameReader;
+import eden.common.io.HoldMap;
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.EDENFrame;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs behavior tests on {@code PipelineFrameLens}. Run with assertions
+ * enabled ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class PipelineFrameLensTester {
+
+  /** Number of frames in the test sequence */
+  public static final int LENGTH = 64;
+  /** Time in milliseconds to wait for the lens to settle */
+  public static final long TIMEOUT = 10000;
+
+  public static void main(String[] args) throws Exception {
+    testOverdueWindow();
+    testOnTime();
+    testOverdueSource();
+    testSubsampling();
+    System.out.println("PipelineFrameLensTester: OK");
+  }
+
+  /**
+   * Checks that a master clock always ahead of every frame skips the whole
+   * sequence, instead of stalling the reading Thread once its window of
+   * overdue frames is served
+   */
+  public static void testOverdueWindow() throws Exception {
+    PipelineFrameLens lens = new PipelineFrameLens(
+      make(LENGTH, 1),
+      makeSequence(LENGTH)
+    );
+    lens.setMasterClock(() -> Double.MAX_VALUE);
+    Thread thread = start(lens);
+    long deadline = System.currentTimeMillis() + TIMEOUT;
+    while (
+      lens.getSkipped() < LENGTH && System.currentTimeMillis() < deadline
+    ) {
+      Thread.sleep(10);
+    }
+    assert lens.getSkipped() == LENGTH : lens.getSkipped();
+    assert lens.getUsed() == 0 : lens.getUsed();
+    thread.interrupt();
+  }
+
+  /** Checks that no frames are skipped without a master clock */
+  public static void testOnTime() throws Exception {
+    FileFrameSequence sequence = makeSequence(LENGTH);
+    PipelineFrameLens lens = new PipelineFrameLens(make(LENGTH, 1), sequence);
+    lens.setMasterClock(() -> Double.NaN);
+    Thread thread = start(lens);
+    lens.await();
+    EDENFrame first = lens.poll();
+    assert first.getIdentifier() == sequence.getStart() : first.getIdentifier();
+    assert lens.getSkipped() == 0 : lens.getSkipped();
+    thread.interrupt();
+  }
+
+  /**
+   * Checks that a held frame whose source was skipped for being overdue shows
+   * its source on its own, instead of being served as missing
+   */
+  public static void testOverdueSource() throws Exception {
+    String path = make(LENGTH, 2);
+    FileFrameSequence sequence = makeSequence(LENGTH);
+    PipelineFrameLens lens = new PipelineFrameLens(path, sequence);
+    lens.setHolds(
+      HoldMap.build(new ChannelFrameReader(path, "jpg"), 1, LENGTH)
+    );
+    AtomicBoolean ahead = new AtomicBoolean(true);
+    lens.setMasterClock(() ->
+      ahead.getAndSet(false) ? Double.MAX_VALUE : Double.NaN
+    );
+    Thread thread = start(lens);
+    lens.await();
+    EDENFrame frame = lens.poll();
+    assert frame != null;
+    assert frame.getIdentifier() == 2 : frame.getIdentifier();
+    assert frame.getImage() != null;
+    assert lens.getSkipped() == 1 : lens.getSkipped();
+    thread.interrupt();
+  }
+
+  /** Checks that frames are decoded subsampled down to the output size */
+  public static void testSubsampling() throws Exception {
+    PipelineFrameLens lens = new PipelineFrameLens(
+      make(LENGTH, 1),
+      makeSequence(LENGTH)
+    );
+    lens.setOutputSize(WIDTH / 2, HEIGHT / 2);
+    Thread thread = start(lens);
+    lens.await();
+    EDENFrame frame = lens.poll();
+    assert frame.getSubsampling() == 2 : frame.getSubsampling();
+    assert frame.getImage().getWidth(null) == WIDTH / 2;
+    thread.interrupt();
+  }
+}
@@ -0,0 +1,96 @@
+package eden.common.io.active;
+
+import static eden.common.io.active.TestSequences.*;
+
+import eden.common.io.ChannelFrameReader;
+import eden.common.io.HoldMap;
+import eden.common.model.sequence.FileFrameSequence;
+import eden.common.video.EDENFrame;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs behavior tests on {@code PooledFrameLens}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class PooledFrameLensTester {
+
+  /** Number of frames in the test sequence */
+  public static final int LENGTH = 64;
+  /** Time in milliseconds to wait for the lens to settle */
+  public static final long TIMEOUT = 10000;
+
+  public static void main(String[] args) throws Exception {
+    testOverdue();
+    testOverdueSource();
+    testSubsampling();
+    System.out.println("PooledFrameLensTester: OK");
+  }
+
+  /** Checks that a master clock always ahead skips the whole sequence */
+  public static void testOverdue() throws Exception {
+    PooledFrameLens lens = new PooledFrameLens(
+      make(LENGTH, 1),
+      makeSequence(LENGTH)
+    );
+    lens.setMasterClock(() -> Double.MAX_VALUE);
+    Thread thread = start(lens);
+    long deadline = System.currentTimeMillis() + TIMEOUT;
+    while (
+      lens.getSkipped() < LENGTH && System.currentTimeMillis() < deadline
+    ) {
+      Thread.sleep(10);
+    }
+    assert lens.getSkipped() == LENGTH : lens.getSkipped();
+    assert lens.getUsed() == 0 : lens.getUsed();
+    thread.interrupt();
+  }
+
+  /**
+   * Checks that a held frame deferred to a source that turned out overdue is
+   * decoded on its own, instead of being served as missing
+   */
+  public static void testOverdueSource() throws Exception {
+    String path = make(LENGTH, 2);
+    FileFrameSequence sequence = makeSequence(LENGTH);
+    PooledFrameLens lens = new PooledFrameLens(
+      path,
+      sequence,
+      (short) 4,
+      1,
+      null
+    );
+    lens.setHolds(
+      HoldMap.build(new ChannelFrameReader(path, "jpg"), 1, LENGTH)
+    );
+    AtomicBoolean ahead = new AtomicBoolean(true);
+    lens.setMasterClock(() ->
+      ahead.getAndSet(false) ? Double.MAX_VALUE : Double.NaN
+    );
+    Thread thread = start(lens);
+    lens.await();
+    EDENFrame frame = lens.poll();
+    assert frame != null;
+    assert frame.getIdentifier() == 2 : frame.getIdentifier();
+    assert frame.getImage() != null;
+    assert lens.getSkipped() == 1 : lens.getSkipped();
+    thread.interrupt();
+  }
+
+  /** Checks that frames are decoded subsampled down to the output size */
+  public static void testSubsampling() throws Exception {
+    PooledFrameLens lens = new PooledFrameLens(
+      make(LENGTH, 1),
+      makeSequence(LENGTH)
+    );
+    lens.setOutputSize(WIDTH / 2, HEIGHT / 2);
+    Thread thread = start(lens);
+    lens.await();
+    EDENFrame frame = lens.poll();
+    assert frame.getSubsampling() == 2 : frame.getSubsampling();
+    assert frame.getImage().getWidth(null) == WIDTH / 2;
+    thread.interrupt();
+  }
+}
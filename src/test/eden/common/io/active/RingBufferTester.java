@@ -0,0 +1,166 @@
+package eden.common.io.active;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Runs behavior tests on {@code RingBuffer}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class RingBufferTester {
+
+  /** Number of elements passed in the concurrent test */
+  public static final int COUNT = 100000;
+
+  public static void main(String[] args) throws Exception {
+    testWrap();
+    testClear();
+    testNulls();
+    testConcurrentClear();
+    testSameElement();
+    System.out.println("RingBufferTester: OK");
+  }
+
+  /**
+   * Checks that elements keep their order and the capacity is kept as the
+   * indices wrap around the slots many times
+   */
+  public static void testWrap() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(3);
+    assert buffer.getCapacity() == 3;
+    int next = 0;
+    for (int round = 0; round < 100; round++) {
+      int added = next;
+      while (buffer.offer(added)) {
+        added++;
+      }
+      assert added - next == 3 : added - next;
+      assert buffer.size() == 3;
+      assert buffer.peek() == next;
+      while (!buffer.isEmpty()) {
+        assert buffer.poll() == next++;
+      }
+      assert buffer.poll() == null;
+      assert buffer.size() == 0;
+    }
+  }
+
+  /**
+   * Checks that clearing empties every slot, so that the removed elements are
+   * not kept from collection, and that the buffer is usable after
+   */
+  public static void testClear() throws Exception {
+    RingBuffer<Object> buffer = new RingBuffer<>(4);
+    buffer.offer(new Object());
+    buffer.poll();
+    for (int index = 0; index < 4; index++) {
+      buffer.offer(new Object());
+    }
+    buffer.clear();
+    assert buffer.isEmpty();
+    assert buffer.poll() == null;
+    AtomicReferenceArray<?> slots = getSlots(buffer);
+    for (int index = 0; index < slots.length(); index++) {
+      assert slots.get(index) == null : index;
+    }
+    Object element = new Object();
+    assert buffer.offer(element);
+    assert buffer.poll() == element;
+  }
+
+  /** Checks that {@code null} elements are buffered like any other */
+  public static void testNulls() {
+    RingBuffer<Object> buffer = new RingBuffer<>(2);
+    assert buffer.offer(null);
+    assert buffer.size() == 1;
+    assert !buffer.isEmpty();
+    assert buffer.poll() == null;
+    assert buffer.isEmpty();
+  }
+
+  /**
+   * Checks that the producer clearing while the consumer polls loses no order
+   * and never hands an element out twice
+   */
+  public static void testConcurrentClear() throws Exception {
+    RingBuffer<Integer> buffer = new RingBuffer<>(16);
+    Thread producer = new Thread(() -> {
+      for (int element = 0; element < COUNT; ) {
+        if (buffer.offer(element)) {
+          element++;
+        } else {
+          Thread.yield();
+        }
+        if ((element & 255) == 0) {
+          buffer.clear();
+        }
+      }
+      while (!buffer.offer(-1)) {
+        Thread.yield();
+      }
+    });
+    producer.start();
+    int last = -1;
+    while (true) {
+      Integer element = buffer.poll();
+      if (element == null) {
+        if (!producer.isAlive() && buffer.isEmpty()) {
+          break;
+        }
+        Thread.yield();
+        continue;
+      }
+      if (element == -1) {
+        break;
+      }
+      assert element > last : element + " after " + last;
+      last = element;
+    }
+    producer.join();
+  }
+
+  /**
+   * Checks that one element added over and over, as lenses do with held and
+   * kept Frames, is never lost to the emptying of a slot it was added back to
+   */
+  public static void testSameElement() throws Exception {
+    RingBuffer<Object> buffer = new RingBuffer<>(1);
+    Object element = new Object();
+    Thread producer = new Thread(() -> {
+      for (int count = 0; count < COUNT; ) {
+        if (buffer.offer(element)) {
+          count++;
+        } else {
+          Thread.yield();
+        }
+      }
+    });
+    producer.start();
+    int count = 0;
+    while (true) {
+      Object out = buffer.poll();
+      if (out != null) {
+        assert out == element;
+        count++;
+        continue;
+      }
+      if (!producer.isAlive() && buffer.isEmpty()) {
+        break;
+      }
+      Thread.yield();
+    }
+    producer.join();
+    assert count == COUNT : count;
+  }
+
+  /** Returns the element slots of the given RingBuffer */
+  private static AtomicReferenceArray<?> getSlots(RingBuffer<?> buffer)
+    throws ReflectiveOperationException {
+    Field field = RingBuffer.class.getDeclaredField("slots");
+    field.setAccessible(true);
+    return (AtomicReferenceArray<?>) field.get(buffer);
+  }
+}
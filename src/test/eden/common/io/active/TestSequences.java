@@ -0,0 +1,80 @@
+package eden.common.io.active;
+
+import eden.common.model.sequence.FileFrameSequence;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+
+/**
+ * This class provides image sequences for the lens testers.
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class TestSequences {
+
+  /** Frame width in pixels */
+  public static final short WIDTH = 64;
+  /** Frame height in pixels */
+  public static final short HEIGHT = 36;
+  /** Frame rate */
+  public static final byte RATE = 30;
+
+  /** To prevent instantiations of this class */
+  private TestSequences() {}
+
+  /**
+   * Writes a sequence of the given number of frames, numbered from 1, into a
+   * new temporary directory, then returns its path with a trailing separator.
+   * Every run of the given number of frames shows the same image.
+   */
+  public static String make(int length, int run) throws IOException {
+    Path out = Files.createTempDirectory("sequence");
+    out.toFile().deleteOnExit();
+    for (int frame = 1; frame <= length; frame++) {
+      BufferedImage image = new BufferedImage(
+        WIDTH,
+        HEIGHT,
+        BufferedImage.TYPE_INT_RGB
+      );
+      image.setRGB(((frame - 1) / run) % WIDTH, 0, 0xFFFFFF);
+      File file = out.resolve(frame + ".jpg").toFile();
+      ImageIO.write(image, "jpg", file);
+      file.deleteOnExit();
+    }
+    return out + File.separator;
+  }
+
+  /**
+   * Returns a FileFrameSequence of the given number of frames, numbered from
+   * 1, that plays forward
+   */
+  public static FileFrameSequence makeSequence(int length) {
+    FileFrameSequence out = new FileFrameSequence(
+      "test",
+      1,
+      length,
+      RATE,
+      WIDTH,
+      HEIGHT,
+      "jpg"
+    );
+    out.setSkip(1);
+    return out;
+  }
+
+  /**
+   * Calls the given lens, then starts it on a daemon Thread, so that nothing is
+   * read before the call
+   */
+  public static Thread start(FrameLens lens) {
+    lens.call();
+    Thread out = new Thread(lens, "Lens");
+    out.setDaemon(true);
+    out.start();
+    return out;
+  }
+}
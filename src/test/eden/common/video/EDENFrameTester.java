@@ -0,0 +1,84 @@
+package eden.common.video;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs behavior tests on {@code EDENFrame}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class EDENFrameTester {
+
+  public static void main(String[] args) {
+    testRecycle();
+    testRetain();
+    testHoldAs();
+    System.out.println("EDENFrameTester: OK");
+  }
+
+  /** Checks that a Frame with one holder is returned to its pool at once */
+  public static void testRecycle() {
+    CountingPool pool = new CountingPool();
+    EDENFrame frame = new EDENFrame(makeImage(), 1, pool);
+    frame.recycle();
+    assert pool.released.get() == 1 : pool.released.get();
+  }
+
+  /**
+   * Checks that a retained Frame is returned to its pool only when its last
+   * holder recycles it, and only once
+   */
+  public static void testRetain() {
+    CountingPool pool = new CountingPool();
+    EDENFrame frame = new EDENFrame(makeImage(), 1, pool);
+    assert frame.retain() == frame;
+    frame.retain();
+    frame.recycle();
+    frame.recycle();
+    assert pool.released.get() == 0 : pool.released.get();
+    frame.recycle();
+    assert pool.released.get() == 1 : pool.released.get();
+  }
+
+  /**
+   * Checks that a held Frame shows the Image of its source under its own
+   * identifier, and keeps the source from its pool until both are recycled
+   */
+  public static void testHoldAs() {
+    CountingPool pool = new CountingPool();
+    EDENFrame source = new EDENFrame(makeImage(), 1, pool, 2);
+    EDENFrame first = source.holdAs(2);
+    EDENFrame second = source.holdAs(3);
+    assert first.getIdentifier() == 2;
+    assert first.getImage() == source.getImage();
+    assert first.getSubsampling() == 2;
+    source.recycle();
+    first.recycle();
+    assert pool.released.get() == 0 : pool.released.get();
+    second.recycle();
+    assert pool.released.get() == 1 : pool.released.get();
+  }
+
+  /** Returns a small image of a predefined type */
+  static BufferedImage makeImage() {
+    return new BufferedImage(16, 9, BufferedImage.TYPE_INT_RGB);
+  }
+
+  /** An ImagePool that counts released images */
+  private static class CountingPool extends ImagePool {
+
+    /** Number of released images */
+    final AtomicInteger released = new AtomicInteger(0);
+
+    /** {@inheritDoc} */
+    @Override
+    public void release(Image image) {
+      this.released.incrementAndGet();
+      super.release(image);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package eden.common.video;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Runs behavior tests on {@code FrameCache}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameCacheTester {
+
+  /** Pixel bytes of one test image */
+  public static final long SIZE = 16 * 9 * 4;
+
+  public static void main(String[] args) {
+    testEviction();
+    testOversize();
+    testReplace();
+    testBudget();
+    testRemove();
+    System.out.println("FrameCacheTester: OK");
+  }
+
+  /**
+   * Checks that the least recently used Frames are evicted once the budget is
+   * exceeded, and that the cache keeps no holder of them
+   */
+  public static void testEviction() {
+    FrameCache cache = new FrameCache(3 * SIZE);
+    EDENFrame[] frames = new EDENFrame[4];
+    for (int frame = 0; frame < 3; frame++) {
+      frames[frame] = put(cache, "a", frame);
+    }
+    assert cache.getBytes() == 3 * SIZE : cache.getBytes();
+    cache.acquire("a", 0).recycle();
+    frames[3] = put(cache, "a", 3);
+    assert cache.getSize() == 3 : cache.getSize();
+    assert cache.getEvictions() == 1 : cache.getEvictions();
+    assert cache.acquire("a", 1) == null;
+    EDENFrame kept = cache.acquire("a", 0);
+    assert kept == frames[0];
+    kept.recycle();
+    assert cache.acquire("b", 0) == null;
+    assert cache.getHits() == 2 : cache.getHits();
+    assert cache.getMisses() == 2 : cache.getMisses();
+    cache.clear();
+    assert cache.getSize() == 0;
+    assert cache.getBytes() == 0;
+  }
+
+  /** Checks that a Frame larger than the budget is not kept */
+  public static void testOversize() {
+    FrameCache cache = new FrameCache(SIZE - 1);
+    put(cache, "a", 0);
+    assert cache.getSize() == 0;
+    assert cache.getBytes() == 0;
+  }
+
+  /** Checks that a kept Frame is replaced only by a larger one */
+  public static void testReplace() {
+    FrameCache cache = new FrameCache();
+    EDENFrame kept = put(cache, "a", 0);
+    put(cache, "a", 0);
+    EDENFrame out = cache.acquire("a", 0);
+    assert out == kept;
+    out.recycle();
+    EDENFrame larger = new EDENFrame(
+      new BufferedImage(32, 18, BufferedImage.TYPE_INT_RGB),
+      0
+    );
+    cache.put("a", larger);
+    out = cache.acquire("a", 0);
+    assert out == larger;
+    out.recycle();
+    assert cache.getBytes() == 4 * SIZE : cache.getBytes();
+  }
+
+  /** Checks that lowering the budget evicts down to it, and zero disables */
+  public static void testBudget() {
+    FrameCache cache = new FrameCache(4 * SIZE);
+    for (int frame = 0; frame < 4; frame++) {
+      put(cache, "a", frame);
+    }
+    cache.setBudget(2 * SIZE);
+    assert cache.getSize() == 2 : cache.getSize();
+    assert cache.getEvictions() == 2 : cache.getEvictions();
+    cache.setBudget(0);
+    assert cache.getSize() == 0;
+    put(cache, "a", 0);
+    assert cache.getSize() == 0;
+  }
+
+  /** Checks that removing a path drops the Frames of that path only */
+  public static void testRemove() {
+    FrameCache cache = new FrameCache();
+    for (int frame = 0; frame < 3; frame++) {
+      put(cache, "a", frame);
+    }
+    EDENFrame other = put(cache, "b", 0);
+    cache.remove("a");
+    assert cache.getSize() == 1 : cache.getSize();
+    assert cache.getBytes() == SIZE : cache.getBytes();
+    assert cache.acquire("a", 1) == null;
+    EDENFrame out = cache.acquire("b", 0);
+    assert out == other;
+    out.recycle();
+  }
+
+  /** Puts a new Frame of the given number into the given cache */
+  private static EDENFrame put(FrameCache cache, String path, int frame) {
+    EDENFrame out = new EDENFrame(EDENFrameTester.makeImage(), frame);
+    cache.put(path, out);
+    return out;
+  }
+}
@@ -0,0 +1,82 @@
+package eden.common.video;
+
+import eden.common.model.sequence.Sequence;
+
+/**
+ * Runs behavior tests on {@code FrameWindow}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class FrameWindowTester {
+
+  public static void main(String[] args) {
+    testClaim();
+    testClaimTest();
+    testEviction();
+    System.out.println("FrameWindowTester: OK");
+  }
+
+  /**
+   * Checks that claims go nearest the point first, against the direction
+   * first, and are not handed out twice until put or unclaimed
+   */
+  public static void testClaim() {
+    Sequence sequence = new Sequence("test", 1, 100);
+    sequence.setPoint(50);
+    FrameWindow window = new FrameWindow(sequence, 1);
+    assert window.claim(1) == 50;
+    assert window.claim(1) == 49;
+    assert window.claim(1) == 51;
+    assert window.claim(1) == Integer.MIN_VALUE;
+    window.unclaim(49);
+    assert window.claim(-1) == 49;
+    window.put(new EDENFrame(EDENFrameTester.makeImage(), 51));
+    window.unclaim(50);
+    window.unclaim(49);
+    assert window.claim(-1) == 50;
+    assert window.claim(-1) == 49;
+    assert window.claim(-1) == Integer.MIN_VALUE;
+  }
+
+  /**
+   * Checks that frames failing the test of a claim are passed over without
+   * being claimed
+   */
+  public static void testClaimTest() {
+    Sequence sequence = new Sequence("test", 1, 100);
+    sequence.setPoint(50);
+    FrameWindow window = new FrameWindow(sequence, 1);
+    assert window.claim(1, frame -> frame != 50) == 49;
+    assert window.claim(1, frame -> false) == Integer.MIN_VALUE;
+    assert window.claim(1) == 50;
+  }
+
+  /**
+   * Checks that Frames outside the window are not kept, and that kept Frames
+   * leave once the point moves away from them
+   */
+  public static void testEviction() {
+    Sequence sequence = new Sequence("test", 1, 100);
+    sequence.setPoint(50);
+    FrameWindow window = new FrameWindow(sequence, 2);
+    window.put(new EDENFrame(EDENFrameTester.makeImage(), 53));
+    assert window.getSize() == 0;
+    for (int frame = 48; frame <= 52; frame++) {
+      window.put(new EDENFrame(EDENFrameTester.makeImage(), frame));
+    }
+    assert window.getSize() == 5 : window.getSize();
+    sequence.setPoint(52);
+    window.put(new EDENFrame(EDENFrameTester.makeImage(), 54));
+    assert window.getSize() == 4 : window.getSize();
+    assert window.acquire(49) == null;
+    EDENFrame kept = window.acquire(54);
+    assert kept != null;
+    kept.recycle();
+    assert window.getHits() == 1;
+    assert window.getMisses() == 1;
+    window.clear();
+    assert window.getSize() == 0;
+  }
+}
@@ -0,0 +1,74 @@
+package eden.common.video;
+
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageTypeSpecifier;
+
+/**
+ * Runs behavior tests on {@code ImagePool}. Run with assertions enabled
+ * ({@code java -ea}).
+ *
+ * @author Brendon
+ * @version u0r7, 10/17/2026.
+ */
+public class ImagePoolTester {
+
+  public static void main(String[] args) {
+    testReuse();
+    testMismatch();
+    testCapacity();
+    System.out.println("ImagePoolTester: OK");
+  }
+
+  /** Checks that a released image is handed out again */
+  public static void testReuse() {
+    ImagePool pool = new ImagePool();
+    ImageTypeSpecifier type = makeType();
+    BufferedImage image = pool.acquire(type, 16, 9);
+    assert pool.getAllocations() == 1;
+    pool.release(image);
+    assert pool.acquire(type, 16, 9) == image;
+    assert pool.getReuses() == 1;
+  }
+
+  /**
+   * Checks that a released image of other dimensions is not handed out, nor
+   * kept once passed over
+   */
+  public static void testMismatch() {
+    ImagePool pool = new ImagePool();
+    ImageTypeSpecifier type = makeType();
+    BufferedImage image = pool.acquire(type, 16, 9);
+    pool.release(image);
+    BufferedImage other = pool.acquire(type, 32, 18);
+    assert other != image;
+    assert other.getWidth() == 32;
+    assert pool.acquire(type, 16, 9) != image;
+    assert pool.getAllocations() == 3 : pool.getAllocations();
+    assert pool.getReuses() == 0;
+  }
+
+  /**
+   * Checks that images beyond the capacity are left for the garbage
+   * collector, as are those of a custom type
+   */
+  public static void testCapacity() {
+    ImagePool pool = new ImagePool((short) 1);
+    ImageTypeSpecifier type = makeType();
+    BufferedImage first = pool.acquire(type, 16, 9);
+    BufferedImage second = pool.acquire(type, 16, 9);
+    pool.release(first);
+    pool.release(second);
+    assert pool.acquire(type, 16, 9) == first;
+    assert pool.acquire(type, 16, 9) != second;
+    pool.release(second);
+    pool.clear();
+    assert pool.acquire(type, 16, 9) != second;
+  }
+
+  /** Returns the type of the test images */
+  private static ImageTypeSpecifier makeType() {
+    return ImageTypeSpecifier.createFromBufferedImageType(
+      BufferedImage.TYPE_INT_RGB
+    );
+  }
+}